@@ -21,6 +21,9 @@ import com.bitwig.extension.controller.api.NoteStep;
 import com.bitwig.extension.controller.api.PinnableCursorClip;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Proxy to the Bitwig Cursor clip.
@@ -36,9 +39,10 @@ public class CursorClipImpl implements INoteClip
 
     private final IStepInfo [] [] [] launcherData;
     private PinnableCursorClip       launcherClip;
-    private int                      editPage = 0;
+    private int                      editPage         = 0;
     private double                   stepLength;
-    private final GridStep           editStep = new GridStep ();
+    private final List<GridStep>     editSteps        = new ArrayList<> ();
+    private boolean                  isFlushScheduled = false;
 
 
     /**
@@ -404,6 +408,26 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void getStepStates (final int channel, final int firstStep, final int numSteps, final int firstRow, final int numRows, final int [] states)
+    {
+        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
+        final IStepInfo [] [] channelInfos = channel >= 0 && channel < stepInfos.length ? stepInfos[channel] : null;
+        for (int s = 0; s < numSteps; s++)
+        {
+            final int step = firstStep + s;
+            final IStepInfo [] rowInfos = channelInfos == null || step < 0 || step >= channelInfos.length ? null : channelInfos[step];
+            for (int r = 0; r < numRows; r++)
+            {
+                final int row = firstRow + r;
+                final IStepInfo info = rowInfos == null || row < 0 || row >= rowInfos.length ? null : rowInfos[row];
+                states[r * numSteps + s] = info == null ? IStepInfo.NOTE_OFF : info.getState ();
+            }
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void toggleStep (final int channel, final int step, final int row, final int velocity)
@@ -465,7 +489,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setDuration (duration);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setDuration (duration);
     }
 
@@ -486,7 +512,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setVelocity (velocity);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setVelocity (velocity);
     }
 
@@ -507,7 +535,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setReleaseVelocity (releaseVelocity);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setReleaseVelocity (releaseVelocity);
     }
 
@@ -528,7 +558,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setPressure (pressure);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setPressure (pressure);
     }
 
@@ -549,7 +581,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setTimbre (timbre);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setTimbre (timbre);
     }
 
@@ -570,7 +604,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setPan (pan);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setPan (pan);
     }
 
@@ -591,7 +627,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setTranspose (transpose);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setTranspose (transpose);
     }
 
@@ -612,7 +650,9 @@ public class CursorClipImpl implements INoteClip
     {
         final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setGain (gain);
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
+            this.scheduleFlush ();
+        else
             this.getClip ().getStep (channel, step, row).setGain (gain);
     }
 
@@ -796,8 +836,19 @@ public class CursorClipImpl implements INoteClip
         // Is there a previous edit, which is not stopped yet?
         this.stopEdit ();
 
-        this.editStep.set (this, channel, step, row);
-        this.delayedUpdate (channel, step, row);
+        this.addEditStep (channel, step, row);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void startEdit (final List<GridStep> steps)
+    {
+        // Is there a previous edit, which is not stopped yet?
+        this.stopEdit ();
+
+        for (final GridStep step: steps)
+            this.addEditStep (step.getChannel (), step.getStep (), step.getNote ());
     }
 
 
@@ -805,24 +856,72 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void stopEdit ()
     {
-        if (!this.editStep.isSet ())
+        if (this.editSteps.isEmpty ())
             return;
-        this.sendClipData (this.editStep.getChannel (), this.editStep.getStep (), this.editStep.getNote ());
-        this.editStep.reset ();
+        this.flushEditSteps ();
+        this.editSteps.clear ();
     }
 
 
-    private void delayedUpdate (final int channel, final int step, final int row)
+    private void addEditStep (final int channel, final int step, final int row)
     {
-        if (!this.editStep.isSet ())
+        if (this.isEdited (channel, step, row))
             return;
-        this.sendClipData (channel, step, row);
-        this.host.scheduleTask ( () -> this.delayedUpdate (channel, step, row), 100);
+
+        // The local data is in sync with Bitwig, only the following changes need to be sent
+        this.getUpdateableStep (channel, step, row).clearDirtyFields ();
+
+        final GridStep editStep = new GridStep ();
+        editStep.set (this, channel, step, row);
+        this.editSteps.add (editStep);
     }
 
 
     /**
-     * Update the locally changed step data in Bitwig.
+     * Check if the step at the given position is currently edited.
+     *
+     * @param channel The MIDI channel
+     * @param step The step of the clip
+     * @param row The row of the clip
+     * @return True if edited
+     */
+    private boolean isEdited (final int channel, final int step, final int row)
+    {
+        for (final GridStep editStep: this.editSteps)
+        {
+            if (editStep.getChannel () == channel && editStep.getStep () == step && editStep.getNote () == row)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Send the changes of all edited steps with a delay. All changes until then are collected and
+     * sent together.
+     */
+    private void scheduleFlush ()
+    {
+        if (this.isFlushScheduled)
+            return;
+        this.isFlushScheduled = true;
+        this.host.scheduleTask ( () -> {
+            this.isFlushScheduled = false;
+            this.flushEditSteps ();
+        }, 100);
+    }
+
+
+    private void flushEditSteps ()
+    {
+        for (final GridStep editStep: this.editSteps)
+            this.sendClipData (editStep.getChannel (), editStep.getStep (), editStep.getNote ());
+    }
+
+
+    /**
+     * Update the locally changed step data in Bitwig. Only the fields which were changed since the
+     * last update are sent.
      *
      * @param channel The MIDI channel
      * @param step The step of the clip
@@ -830,19 +929,32 @@ public class CursorClipImpl implements INoteClip
      */
     private void sendClipData (final int channel, final int step, final int row)
     {
+        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final int dirtyFields = stepInfo.getDirtyFields ();
+        if (dirtyFields == 0)
+            return;
+
         final NoteStep noteInfo = this.getClip ().getStep (channel, step, row);
         if (noteInfo == null)
             return;
 
-        final IStepInfo stepInfo = this.getStep (channel, step, row);
-        noteInfo.setDuration (stepInfo.getDuration ());
-        noteInfo.setVelocity (stepInfo.getVelocity ());
-        noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
-        noteInfo.setPressure (stepInfo.getPressure ());
-        noteInfo.setTimbre (stepInfo.getTimbre ());
-        noteInfo.setPan (stepInfo.getPan ());
-        noteInfo.setTranspose (stepInfo.getTranspose ());
-        noteInfo.setGain (stepInfo.getGain ());
+        if ((dirtyFields & StepInfoImpl.DURATION) > 0)
+            noteInfo.setDuration (stepInfo.getDuration ());
+        if ((dirtyFields & StepInfoImpl.VELOCITY) > 0)
+            noteInfo.setVelocity (stepInfo.getVelocity ());
+        if ((dirtyFields & StepInfoImpl.RELEASE_VELOCITY) > 0)
+            noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
+        if ((dirtyFields & StepInfoImpl.PRESSURE) > 0)
+            noteInfo.setPressure (stepInfo.getPressure ());
+        if ((dirtyFields & StepInfoImpl.TIMBRE) > 0)
+            noteInfo.setTimbre (stepInfo.getTimbre ());
+        if ((dirtyFields & StepInfoImpl.PAN) > 0)
+            noteInfo.setPan (stepInfo.getPan ());
+        if ((dirtyFields & StepInfoImpl.TRANSPOSE) > 0)
+            noteInfo.setTranspose (stepInfo.getTranspose ());
+        if ((dirtyFields & StepInfoImpl.GAIN) > 0)
+            noteInfo.setGain (stepInfo.getGain ());
+        stepInfo.clearDirtyFields ();
     }
 
 
@@ -857,7 +969,7 @@ public class CursorClipImpl implements INoteClip
         final int step = noteStep.x ();
         final int note = noteStep.y ();
         final StepInfoImpl sinfo = this.getUpdateableStep (channel, step, note);
-        if (!this.editStep.isSet () || this.editStep.getChannel () != channel || this.editStep.getStep () != step || this.editStep.getNote () != note)
+        if (!this.isEdited (channel, step, note))
             sinfo.updateData (noteStep);
     }
 
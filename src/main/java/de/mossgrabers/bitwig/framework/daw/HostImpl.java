@@ -21,13 +21,18 @@ import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.software.SVGImageLoader;
+import de.mossgrabers.framework.graphics.software.SoftwareBitmap;
+import de.mossgrabers.framework.graphics.software.SoftwareImage;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.session.SessionRecorder;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.api.graphics.BitmapFormat;
 import com.bitwig.extension.api.opensoundcontrol.OscAddressSpace;
@@ -36,6 +41,7 @@ import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.HardwareDevice;
 import com.bitwig.extension.controller.api.UsbDevice;
 
+import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -59,6 +65,7 @@ public class HostImpl implements IHost
 
     private ControllerHost                     host;
     private List<IUsbDevice>                   usbDevices           = new ArrayList<> ();
+    private final TimerWheel                   timerWheel           = new TimerWheel (this);
 
 
     /**
@@ -133,6 +140,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
@@ -185,7 +200,9 @@ public class HostImpl implements IHost
     {
         final OscModule oscModule = this.host.getOscModule ();
         final OscAddressSpace addressSpace = oscModule.createAddressSpace ();
-        addressSpace.registerDefaultMethod ( (source, message) -> callback.handle (new OpenSoundControlMessageImpl (message)));
+        final SessionRecorder recorder = SessionRecorder.getActive ();
+        final IOpenSoundControlCallback handler = recorder == null ? callback : recorder.wrap (this.host, callback);
+        addressSpace.registerDefaultMethod ( (source, message) -> handler.handle (new OpenSoundControlMessageImpl (message)));
         return new OpenSoundControlServerImpl (oscModule.createUdpServer (addressSpace));
     }
 
@@ -210,6 +227,18 @@ public class HostImpl implements IHost
     @Override
     public IImage loadSVG (final String path, final int scale)
     {
+        if (SoftwareBitmap.isEnabled ())
+        {
+            try
+            {
+                return SVGImageLoader.load (path, scale);
+            }
+            catch (final IOException ex)
+            {
+                this.error ("Could not load image " + path, ex);
+                return new SoftwareImage (new BufferedImage (1, 1, BufferedImage.TYPE_INT_ARGB));
+            }
+        }
         return new ImageImpl (this.host.loadSVG (path, scale));
     }
 
@@ -218,6 +247,8 @@ public class HostImpl implements IHost
     @Override
     public IBitmap createBitmap (final int width, final int height)
     {
+        if (SoftwareBitmap.isEnabled ())
+            return new SoftwareBitmap (width, height);
         return new BitmapImpl (this.host.createBitmap (width, height, BitmapFormat.ARGB32));
     }
 
@@ -17,6 +17,23 @@ import com.bitwig.extension.controller.api.NoteStep;
  */
 public class StepInfoImpl implements IStepInfo
 {
+    /** Flag for a changed duration. */
+    public static final int DURATION         = 0x01;
+    /** Flag for a changed velocity. */
+    public static final int VELOCITY         = 0x02;
+    /** Flag for a changed release velocity. */
+    public static final int RELEASE_VELOCITY = 0x04;
+    /** Flag for a changed pressure. */
+    public static final int PRESSURE         = 0x08;
+    /** Flag for a changed timbre. */
+    public static final int TIMBRE           = 0x10;
+    /** Flag for a changed panorama. */
+    public static final int PAN              = 0x20;
+    /** Flag for a changed transpose. */
+    public static final int TRANSPOSE        = 0x40;
+    /** Flag for a changed gain. */
+    public static final int GAIN             = 0x80;
+
     private int    state;
     private double duration = Resolution.RES_1_16.getValue ();
     private double velocity;
@@ -26,6 +43,7 @@ public class StepInfoImpl implements IStepInfo
     private double pan;
     private double transpose;
     private double gain;
+    private int    dirtyFields;
 
 
     /**
@@ -149,53 +167,100 @@ public class StepInfoImpl implements IStepInfo
         this.pan = stepInfo.pan ();
         this.transpose = stepInfo.transpose ();
         this.gain = stepInfo.gain ();
+
+        this.dirtyFields = 0;
+    }
+
+
+    /**
+     * Get the fields which were changed locally since the last call to clearDirtyFields or
+     * updateData.
+     *
+     * @return The flags of the changed fields, e.g. DURATION | VELOCITY
+     */
+    public int getDirtyFields ()
+    {
+        return this.dirtyFields;
+    }
+
+
+    /**
+     * Marks all fields as unchanged, e.g. after they have been sent to Bitwig.
+     */
+    public void clearDirtyFields ()
+    {
+        this.dirtyFields = 0;
     }
 
 
     void setDuration (final double duration)
     {
+        if (this.duration == duration)
+            return;
         this.duration = duration;
+        this.dirtyFields |= DURATION;
     }
 
 
     void setVelocity (final double velocity)
     {
+        if (this.velocity == velocity)
+            return;
         this.velocity = velocity;
+        this.dirtyFields |= VELOCITY;
     }
 
 
     void setReleaseVelocity (final double releaseVelocity)
     {
+        if (this.releaseVelocity == releaseVelocity)
+            return;
         this.releaseVelocity = releaseVelocity;
+        this.dirtyFields |= RELEASE_VELOCITY;
     }
 
 
     void setPressure (final double pressure)
     {
+        if (this.pressure == pressure)
+            return;
         this.pressure = pressure;
+        this.dirtyFields |= PRESSURE;
     }
 
 
     void setTimbre (final double timbre)
     {
+        if (this.timbre == timbre)
+            return;
         this.timbre = timbre;
+        this.dirtyFields |= TIMBRE;
     }
 
 
     void setPan (final double pan)
     {
+        if (this.pan == pan)
+            return;
         this.pan = pan;
+        this.dirtyFields |= PAN;
     }
 
 
     void setTranspose (final double transpose)
     {
+        if (this.transpose == transpose)
+            return;
         this.transpose = transpose;
+        this.dirtyFields |= TRANSPOSE;
     }
 
 
     void setGain (final double gain)
     {
+        if (this.gain == gain)
+            return;
         this.gain = gain;
+        this.dirtyFields |= GAIN;
     }
 }
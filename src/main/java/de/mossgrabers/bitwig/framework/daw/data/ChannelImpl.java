@@ -9,6 +9,7 @@ import de.mossgrabers.bitwig.framework.daw.data.bank.AbstractChannelBankImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.SendBankImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
@@ -21,7 +22,6 @@ import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.InsertionPoint;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import java.util.UUID;
 
@@ -45,6 +45,8 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
 
     private int                                 vuLeft;
     private int                                 vuRight;
+    private ColorEx                             color          = ColorEx.BLACK;
+    private String                              colorIndex     = DAWColor.getColorIndex (ColorEx.BLACK);
 
 
     /**
@@ -80,7 +82,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.isActivated ().markInterested ();
         channel.mute ().markInterested ();
         channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.color ().addValueObserver (this::handleColor);
 
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
@@ -370,8 +372,15 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.deviceChain.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getColorIndex ()
+    {
+        return this.colorIndex;
     }
 
 
@@ -490,6 +499,13 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    private void handleColor (final float red, final float green, final float blue)
+    {
+        this.color = new ColorEx (red, green, blue);
+        this.colorIndex = DAWColor.getColorIndex (this.color);
+    }
+
+
     private void handleVULeftMeter (final int value)
     {
         // Limit value to this.configuration.getMaxParameterValue () due to
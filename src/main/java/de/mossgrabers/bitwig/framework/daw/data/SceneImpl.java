@@ -5,12 +5,12 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.Scene;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 
 /**
@@ -21,6 +21,8 @@ import com.bitwig.extension.controller.api.SettableColorValue;
 public class SceneImpl extends AbstractItemImpl implements IScene
 {
     private final Scene scene;
+    private ColorEx     color      = ColorEx.BLACK;
+    private String      colorIndex = DAWColor.getColorIndex (ColorEx.BLACK);
 
 
     /**
@@ -38,7 +40,7 @@ public class SceneImpl extends AbstractItemImpl implements IScene
         scene.exists ().markInterested ();
         scene.name ().markInterested ();
         scene.sceneIndex ().markInterested ();
-        scene.color ().markInterested ();
+        scene.color ().addValueObserver (this::handleColor);
         scene.addIsSelectedInEditorObserver (this::setSelected);
     }
 
@@ -98,8 +100,15 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.scene.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getColorIndex ()
+    {
+        return this.colorIndex;
     }
 
 
@@ -141,4 +150,11 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     {
         this.scene.launch ();
     }
+
+
+    private void handleColor (final float red, final float green, final float blue)
+    {
+        this.color = new ColorEx (red, green, blue);
+        this.colorIndex = DAWColor.getColorIndex (this.color);
+    }
 }
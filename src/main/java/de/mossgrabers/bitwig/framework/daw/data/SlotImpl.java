@@ -5,13 +5,13 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
 
 
 /**
@@ -23,6 +23,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
 {
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private ColorEx                color      = ColorEx.BLACK;
+    private String                 colorIndex = DAWColor.getColorIndex (ColorEx.BLACK);
 
 
     /**
@@ -43,7 +45,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.sceneIndex ().markInterested ();
         slot.name ().markInterested ();
         slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.color ().addValueObserver (this::handleColor);
 
         // States
         slot.isPlaying ().markInterested ();
@@ -177,8 +179,19 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
-        final ColorValue color = this.slot.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getColorIndex ()
+    {
+        // TODO API extension required - https://github.com/teotigraphix/Framework4Bitwig/issues/218
+        if (this.track.isGroup ())
+            return this.track.getColorIndex ();
+
+        return this.colorIndex;
     }
 
 
@@ -248,4 +261,11 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     {
         return this.slot;
     }
+
+
+    private void handleColor (final float red, final float green, final float blue)
+    {
+        this.color = new ColorEx (red, green, blue);
+        this.colorIndex = DAWColor.getColorIndex (this.color);
+    }
 }
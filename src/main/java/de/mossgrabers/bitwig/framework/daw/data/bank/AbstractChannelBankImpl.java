@@ -58,7 +58,7 @@ public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChan
         final Optional<T> sel = this.getSelectedItem ();
         if (sel.isEmpty ())
             return DAWColor.COLOR_OFF.name ();
-        return DAWColor.getColorIndex (sel.get ().getColor ());
+        return sel.get ().getColorIndex ();
     }
 
 
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.extension;
 
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.session.SessionRecorder;
 
 import com.bitwig.extension.controller.ControllerExtension;
 import com.bitwig.extension.controller.ControllerExtensionDefinition;
@@ -53,6 +54,7 @@ public class GenericControllerExtension extends ControllerExtension
     public void exit ()
     {
         this.setup.exit ();
+        SessionRecorder.release (this.getHost ());
     }
 
 
@@ -4,14 +4,17 @@
 
 package de.mossgrabers.bitwig.framework.graphics;
 
+import de.mossgrabers.framework.graphics.FontMetricsCache;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IPixelEncoder;
 import de.mossgrabers.framework.graphics.IRenderer;
 
 import com.bitwig.extension.api.graphics.Bitmap;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 
 /**
@@ -21,7 +24,8 @@ import java.nio.ByteBuffer;
  */
 public class BitmapImpl implements IBitmap
 {
-    private Bitmap bitmap;
+    private Bitmap                 bitmap;
+    private final FontMetricsCache fontMetricsCache = new FontMetricsCache ();
 
 
     /**
@@ -55,7 +59,7 @@ public class BitmapImpl implements IBitmap
     @Override
     public void render (final boolean enableAntialias, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc, this.fontMetricsCache)));
     }
 
 
@@ -68,6 +72,24 @@ public class BitmapImpl implements IBitmap
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void encodePixels (final IPixelEncoder encoder)
+    {
+        // The color bytes are stored as blue, green, red and alpha
+        final ByteBuffer imageBuffer = this.bitmap.getMemoryBlock ().createByteBuffer ().order (ByteOrder.LITTLE_ENDIAN);
+        encoder.encode (imageBuffer.asIntBuffer (), this.bitmap.getWidth (), this.bitmap.getHeight ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FontMetricsCache getFontMetricsCache ()
+    {
+        return this.fontMetricsCache;
+    }
+
+
     /**
      * Get the Bitwig bitmap.
      *
@@ -6,8 +6,10 @@ package de.mossgrabers.bitwig.framework.graphics;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.FontMetricsCache;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.ITextMeasurer;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.api.graphics.GradientPattern;
@@ -21,9 +23,12 @@ import com.bitwig.extension.api.graphics.Image;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class GraphicsContextImpl implements IGraphicsContext
+public class GraphicsContextImpl implements IGraphicsContext, ITextMeasurer
 {
-    private GraphicsOutput gc;
+    private static final String    DEFAULT_FONT = "Default";
+
+    private GraphicsOutput         gc;
+    private final FontMetricsCache fontMetricsCache;
 
 
     /**
@@ -31,11 +36,13 @@ public class GraphicsContextImpl implements IGraphicsContext
      *
      * @param antialiasMode The antialias mode to apply
      * @param gc The Bitwig graphics context
+     * @param fontMetricsCache The cache for font size calculations
      */
-    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc)
+    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc, final FontMetricsCache fontMetricsCache)
     {
         gc.setAntialias (antialiasMode);
         this.gc = gc;
+        this.fontMetricsCache = fontMetricsCache;
     }
 
 
@@ -266,18 +273,34 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
     {
-        double size = minimumFontSize;
-        double fittingSize = -1;
-        while (size < maxHeight)
-        {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
-            if (width > maxWidth)
-                break;
-            fittingSize = size;
-            size += 1.0;
-        }
-        return fittingSize;
+        return this.fontMetricsCache.calculateFontSize (text, maxHeight, maxWidth, minimumFontSize, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getFont ()
+    {
+        // The font face of the output is never changed, all texts use the default font
+        return DEFAULT_FONT;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTextWidth (final String text, final double fontSize)
+    {
+        this.gc.setFontSize (fontSize);
+        return this.gc.getTextExtents (text).getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getCharacterAdvance (final char character, final double fontSize)
+    {
+        this.gc.setFontSize (fontSize);
+        return this.gc.getTextExtents (String.valueOf (character)).getXAdvance ();
     }
 
 
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.hardware;
 import de.mossgrabers.bitwig.framework.midi.MidiInputImpl;
 import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.session.RecordingMidiInput;
 
 import com.bitwig.extension.controller.api.PianoKeyboard;
 
@@ -44,7 +45,9 @@ public class HwPianoKeyboardImpl implements IHwPianoKeyboard
     @Override
     public void bind (final IMidiInput input)
     {
-        this.hardwarePianoKeyboard.setMidiIn (((MidiInputImpl) input).getPort ());
+        // The input is wrapped if the session is recorded
+        final IMidiInput midiInput = input instanceof RecordingMidiInput ? ((RecordingMidiInput) input).getInput () : input;
+        this.hardwarePianoKeyboard.setMidiIn (((MidiInputImpl) midiInput).getPort ());
     }
 
 
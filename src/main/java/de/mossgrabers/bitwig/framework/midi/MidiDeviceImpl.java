@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.midi;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.session.SessionRecorder;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 
@@ -60,6 +61,8 @@ public class MidiDeviceImpl implements IMidiAccess
     @Override
     public IMidiInput createInput (final int index, final String name, final String... filters)
     {
-        return new MidiInputImpl (index, this.host, name, filters);
+        final IMidiInput input = new MidiInputImpl (index, this.host, name, filters);
+        final SessionRecorder recorder = SessionRecorder.getActive ();
+        return recorder == null ? input : recorder.wrap (this.host, index, input);
     }
 }
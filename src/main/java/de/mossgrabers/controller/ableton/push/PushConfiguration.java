@@ -10,6 +10,7 @@ import de.mossgrabers.framework.configuration.IColorSetting;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -247,6 +248,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private ColorEx         colorMute                   = DEFAULT_COLOR_MUTE;
     private ColorEx         colorBackgroundDarker       = DEFAULT_COLOR_BACKGROUND_DARKER;
     private ColorEx         colorBackgroundLighter      = DEFAULT_COLOR_BACKGROUND_LIGHTER;
+    private String          verifiedColorPalette        = "";
 
     private final boolean   isPush2;
 
@@ -274,6 +276,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private IColorSetting   colorMuteSetting;
     private IEnumSetting    sessionViewSetting;
     private IEnumSetting    displayScenesClipsSetting;
+    private IStringSetting  verifiedColorPaletteSetting;
 
 
     /**
@@ -617,6 +620,29 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /**
+     * Get the key of the color palette which was last verified on a Push 2, consisting of the
+     * serial number of the device and a hash of the palette.
+     *
+     * @return The key, empty if none was verified yet
+     */
+    public String getVerifiedColorPalette ()
+    {
+        return this.verifiedColorPalette;
+    }
+
+
+    /**
+     * Store the key of the color palette which was verified on a Push 2.
+     *
+     * @param verifiedColorPalette The key
+     */
+    public void setVerifiedColorPalette (final String verifiedColorPalette)
+    {
+        this.verifiedColorPaletteSetting.set (verifiedColorPalette);
+    }
+
+
     /**
      * Get the LED brightness.
      *
@@ -1141,6 +1167,10 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        this.verifiedColorPaletteSetting = settingsUI.getStringSetting ("Verified color palette", CATEGORY_HARDWARE_SETUP, 40, "");
+        this.verifiedColorPaletteSetting.setVisible (false);
+        this.verifiedColorPaletteSetting.addValueObserver (value -> this.verifiedColorPalette = value);
     }
 
 
@@ -116,6 +116,17 @@ public class PaletteEntry
     }
 
 
+    /**
+     * Check if a read request was sent which was not answered yet.
+     *
+     * @return True if waiting for an answer
+     */
+    public boolean isReading ()
+    {
+        return this.state == State.READ;
+    }
+
+
     /**
      * Creates a system exclusive message which contains the current color.
      *
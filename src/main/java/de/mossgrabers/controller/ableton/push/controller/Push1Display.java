@@ -42,6 +42,19 @@ public class Push1Display extends AbstractTextDisplay
     /** Push character for a right arrow. */
     public static final String     RIGHT_ARROW   = Character.toString ((char) 30);
 
+    /** A block of 17 characters consists of a cell with 9 and a cell with 8 characters. */
+    private static final int []    CELL_WIDTHS   =
+    {
+        9,
+        8,
+        9,
+        8,
+        9,
+        8,
+        9,
+        8
+    };
+
     private static final String [] SYSEX_MESSAGE =
     {
         "F0 47 7F 15 18 00 45 00 ",
@@ -64,7 +77,7 @@ public class Push1Display extends AbstractTextDisplay
      */
     public Push1Display (final IHost host, final int maxParameterValue, final IMidiOutput output, final PushConfiguration configuration)
     {
-        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
+        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */, CELL_WIDTHS);
 
         this.maxParameterValue = maxParameterValue;
     }
@@ -78,34 +91,6 @@ public class Push1Display extends AbstractTextDisplay
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public ITextDisplay clearCell (final int row, final int column)
-    {
-        this.cells[row * this.noOfCells + column] = column % 2 == 0 ? "         " : "        ";
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public ITextDisplay setBlock (final int row, final int block, final String value)
-    {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8, ' ');
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9, ' ');
-            this.clearCell (row, cell + 1);
-        }
-        return this;
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public ITextDisplay setCell (final int row, final int cell, final int value, final Format format)
@@ -118,7 +103,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
+        this.writeCell (row, cell, value, 0, 8);
         return this;
     }
 
@@ -13,7 +13,9 @@ import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.TimerHandle;
 
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -445,8 +447,33 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
+    /** The number of palette entries which are requested without waiting for an answer. */
+    private static final int       PALETTE_WINDOW                = 8;
+    /** Wait time for the device inquiry response which contains the serial number. */
+    private static final int       PALETTE_INQUIRY_TIMEOUT       = 500;
+    private static final int []    ALL_PALETTE_ENTRIES           = new int [128];
+    private static final int []    SPOT_CHECK_PALETTE_ENTRIES    = new int [8];
+
+    static
+    {
+        for (int i = 0; i < ALL_PALETTE_ENTRIES.length; i++)
+            ALL_PALETTE_ENTRIES[i] = i;
+        for (int i = 0; i < SPOT_CHECK_PALETTE_ENTRIES.length; i++)
+            SPOT_CHECK_PALETTE_ENTRIES[i] = i * 16 + i;
+    }
+
     private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
+    private final TimerHandle []   colorPaletteRetryTimers       = new TimerHandle [128];
+    private final TimerHandle      colorPaletteStartTimer;
+    private final int              colorPaletteHash;
     private boolean                colorPaletteHasUpdate         = false;
+    private boolean                isColorPaletteRequested       = false;
+    private boolean                isColorPaletteReady           = false;
+    private int []                 colorPalettePass              = ALL_PALETTE_ENTRIES;
+    private int                    colorPaletteNextRequest       = 0;
+    private int                    colorPaletteReceived          = 0;
+    private long                   colorPaletteStartTime;
+    private long                   colorPaletteSyncTime          = -1;
 
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
@@ -471,8 +498,17 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         super (host, configuration, colorManager, output, input, new PadGridImpl (colorManager, output), 200, 156);
 
+        int hash = 0;
         for (int i = 0; i < this.colorPalette.length; i++)
-            this.colorPalette[i] = new PaletteEntry (PushColorManager.getPaletteColorRGB (i));
+        {
+            final int [] color = PushColorManager.getPaletteColorRGB (i);
+            hash = 31 * hash + Arrays.hashCode (color);
+            this.colorPalette[i] = new PaletteEntry (color);
+            final int paletteEntry = i;
+            this.colorPaletteRetryTimers[i] = host.getTimerWheel ().createTimer ( () -> this.retryColorPaletteRequest (paletteEntry));
+        }
+        this.colorPaletteHash = hash;
+        this.colorPaletteStartTimer = host.getTimerWheel ().createTimer (this::startColorPaletteSync);
 
         this.input.setSysexCallback (this::handleSysEx);
     }
@@ -860,6 +896,15 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
             this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
             this.boardRevision = revisionLevel[9];
+
+            synchronized (this.colorPalette)
+            {
+                if (this.isColorPaletteRequested)
+                {
+                    this.colorPaletteStartTimer.cancel ();
+                    this.startColorPaletteSync ();
+                }
+            }
         }
         else
         {
@@ -953,12 +998,99 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Request the full color palette.
+     * Synchronize the color palette of the device. If the palette was already verified on the same
+     * device only some entries are checked, otherwise all entries are read and updated if
+     * necessary.
      */
     public void updateColorPalette ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        this.sendColorPaletteRequest (0);
+        synchronized (this.colorPalette)
+        {
+            this.isColorPaletteReady = false;
+            this.colorPaletteStartTime = System.currentTimeMillis ();
+
+            // The serial number is required to find a verified palette, wait for the inquiry
+            if (this.serialNumber < 0)
+            {
+                this.isColorPaletteRequested = true;
+                this.colorPaletteStartTimer.schedule (PALETTE_INQUIRY_TIMEOUT);
+                return;
+            }
+
+            this.startColorPaletteSync ();
+        }
+    }
+
+
+    /**
+     * Check if the color palette of the device is synchronized.
+     *
+     * @return True if synchronized
+     */
+    public boolean isColorPaletteReady ()
+    {
+        synchronized (this.colorPalette)
+        {
+            return this.isColorPaletteReady;
+        }
+    }
+
+
+    /**
+     * Get the time it took to synchronize the color palette.
+     *
+     * @return The time in milliseconds, -1 if not synchronized yet
+     */
+    public long getColorPaletteSyncTime ()
+    {
+        synchronized (this.colorPalette)
+        {
+            return this.colorPaletteSyncTime;
+        }
+    }
+
+
+    private void startColorPaletteSync ()
+    {
+        synchronized (this.colorPalette)
+        {
+            this.isColorPaletteRequested = false;
+            final String key = this.getColorPaletteKey ();
+            final boolean isVerified = key != null && key.equals (this.configuration.getVerifiedColorPalette ());
+            this.startColorPalettePass (isVerified ? SPOT_CHECK_PALETTE_ENTRIES : ALL_PALETTE_ENTRIES);
+        }
+    }
+
+
+    /**
+     * Request the given palette entries. Up to PALETTE_WINDOW requests are sent without waiting for
+     * an answer, the next one is sent as soon as an answer was received.
+     *
+     * @param entries The indices of the palette entries to request
+     */
+    private void startColorPalettePass (final int [] entries)
+    {
+        this.colorPalettePass = entries;
+        this.colorPaletteHasUpdate = false;
+        this.colorPaletteNextRequest = 0;
+        this.colorPaletteReceived = 0;
+
+        final int window = Math.min (PALETTE_WINDOW, entries.length);
+        for (int i = 0; i < window; i++)
+            this.sendColorPaletteRequest (entries[this.colorPaletteNextRequest++]);
+    }
+
+
+    /**
+     * Get the key which identifies the color palette on this device.
+     *
+     * @return The key or null if the serial number of the device is unknown, e.g. if the device
+     *         inquiry timed out
+     */
+    private String getColorPaletteKey ()
+    {
+        final int serial = this.serialNumber;
+        return serial < 0 ? null : serial + ":" + Integer.toHexString (this.colorPaletteHash);
     }
 
 
@@ -973,6 +1105,11 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         {
             final int index = data[7];
 
+            // Ignore late answers to already handled requests
+            if (!this.colorPalette[index].isReading ())
+                return;
+            this.colorPaletteRetryTimers[index].cancel ();
+
             // Is an update necessary?
             if (this.colorPalette[index].requiresUpdate (data))
             {
@@ -997,20 +1134,31 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                     this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
             }
 
-            if (index < 127)
+            this.colorPaletteReceived++;
+            if (this.colorPaletteNextRequest < this.colorPalettePass.length)
             {
-                this.sendColorPaletteRequest (index + 1);
+                this.sendColorPaletteRequest (this.colorPalettePass[this.colorPaletteNextRequest++]);
                 return;
             }
-        }
+            if (this.colorPaletteReceived < this.colorPalettePass.length)
+                return;
 
-        // Re-apply the color palette, if necessary
-        if (this.colorPaletteHasUpdate)
-        {
-            this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+            // Re-apply the color palette, if necessary
+            if (this.colorPaletteHasUpdate)
+            {
+                this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+
+                // Request all values again to confirm it was written
+                this.startColorPalettePass (ALL_PALETTE_ENTRIES);
+                return;
+            }
 
-            // Request all values again to confirm it was written
-            this.sendColorPaletteRequest (0);
+            this.isColorPaletteReady = true;
+            this.colorPaletteSyncTime = System.currentTimeMillis () - this.colorPaletteStartTime;
+            final String key = this.getColorPaletteKey ();
+            if (key != null)
+                this.configuration.setVerifiedColorPalette (key);
+            this.host.println ("Color palette synchronized in " + this.colorPaletteSyncTime + " ms.");
         }
     }
 
@@ -1033,23 +1181,30 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         }
 
         // If there was no answer after 1s, retry...
-        this.scheduleTask ( () -> {
+        this.colorPaletteRetryTimers[paletteEntry].schedule (1000);
+    }
 
-            synchronized (this.colorPalette)
-            {
-                if (!this.colorPalette[paletteEntry].requiresRead ())
-                    return;
 
-                if (this.colorPalette[paletteEntry].hasMaxNumberOfReadRetriesReached ())
-                {
-                    this.host.error ("Failed reading color palette entry #" + paletteEntry + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
-                    return;
-                }
+    /**
+     * Resend the request of a color palette entry if there was no answer.
+     *
+     * @param paletteEntry The index of the entry 0-127
+     */
+    private void retryColorPaletteRequest (final int paletteEntry)
+    {
+        synchronized (this.colorPalette)
+        {
+            if (!this.colorPalette[paletteEntry].requiresRead ())
+                return;
 
-                this.host.println ("Resending color palette entry #" + paletteEntry + " request.");
-                this.sendColorPaletteRequest (paletteEntry);
+            if (this.colorPalette[paletteEntry].hasMaxNumberOfReadRetriesReached ())
+            {
+                this.host.error ("Failed reading color palette entry #" + paletteEntry + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
+                return;
             }
 
-        }, 1000);
+            this.host.println ("Resending color palette entry #" + paletteEntry + " request.");
+            this.sendColorPaletteRequest (paletteEntry);
+        }
     }
 }
\ No newline at end of file
@@ -10,26 +10,42 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. The images are encoded directly into one of three
+ * memory blocks. The latest encoded block is swapped with the one of the sender without locking,
+ * frames which were not sent before the next one is ready are dropped. The frame rate adapts to the
+ * measured duration of the USB transfers.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int               DATA_SZ          = 20 * 0x4000;
+    private static final int               DATA_SZ            = 20 * 0x4000;
 
-    private static final int               TIMEOUT          = 1000;
+    private static final int               TIMEOUT            = 1000;
 
-    private static final byte []           DISPLAY_HEADER   =
+    private static final int               NUM_BUFFERS        = 3;
+    private static final int               INDEX_MASK         = 0x03;
+    private static final int               NEW_FRAME          = 0x04;
+
+    /** The shortest frame interval in nanoseconds (60 fps). */
+    private static final long              MIN_FRAME_INTERVAL = 1_000_000_000L / 60;
+    /** The longest frame interval in nanoseconds (10 fps). */
+    private static final long              MAX_FRAME_INTERVAL = 1_000_000_000L / 10;
+
+    private static final byte []           DISPLAY_HEADER     =
     {
         (byte) 0xef,
         (byte) 0xcd,
@@ -53,12 +69,27 @@ public class PushUsbDisplay
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private final IMemoryBlock []          imageBlocks        = new IMemoryBlock [NUM_BUFFERS];
+    private final ByteBuffer []            imageBuffers       = new ByteBuffer [NUM_BUFFERS];
+
+    // The index of the latest encoded block, flagged with NEW_FRAME until it is taken for sending
+    private final AtomicInteger            readyIndex         = new AtomicInteger (1);
+    private int                            encodeIndex        = 0;
+    private int                            sendIndex          = 2;
+    private int []                         sourceLine         = new int [0];
+    private short []                       targetLine         = new short [0];
 
-    private Object                         sendLock         = new Object ();
-    private Object                         bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final Object                   sendLock           = new Object ();
+    private final LatestTaskExecutor       sendExecutor       = new LatestTaskExecutor (true);
+    private final AtomicBoolean            isSendScheduled    = new AtomicBoolean ();
+
+    private volatile long                  nextFrameTime      = 0;
+    private volatile long                  frameInterval      = MIN_FRAME_INTERVAL;
+    private volatile double                transferLatency    = 0;
+    private volatile double                framesPerSecond    = 0;
+    private final AtomicLong               droppedFrames      = new AtomicLong ();
+    private long                           fpsWindowStart     = System.nanoTime ();
+    private int                            fpsWindowFrames    = 0;
 
 
     /**
@@ -84,80 +115,122 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        for (int i = 0; i < NUM_BUFFERS; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            this.imageBuffers[i] = this.imageBlocks[i].createByteBuffer ().order (ByteOrder.LITTLE_ENDIAN);
+
+            // Clear the padding at the end of each line, it is never written again
+            for (int pos = 0; pos < DATA_SZ; pos += 8)
+                this.imageBuffers[i].putLong (pos, 0);
+        }
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. Must not be called concurrently.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        // Copy to the buffer
-        synchronized (this.bufferUpdateLock)
-        {
-            image.encode ( (imageBuffer, width, height) -> {
+        final ByteBuffer target = this.imageBuffers[this.encodeIndex];
+        image.encodePixels ( (pixels, width, height) -> {
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+            if (this.sourceLine.length != width)
+            {
+                this.sourceLine = new int [width];
+                this.targetLine = new short [width];
+            }
 
-                for (int y = 0; y < height; y++)
+            // Copy whole lines instead of accessing the single pixels of the buffers
+            final ShortBuffer targetPixels = target.asShortBuffer ();
+            final int lineSize = width + (DATA_SZ / 2 - height * width) / height;
+            for (int y = 0; y < height; y++)
+            {
+                pixels.get (this.sourceLine);
+                for (int x = 0; x < width; x++)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
+                    final int argb = this.sourceLine[x];
+                    this.targetLine[x] = (short) sPixelFromRGB (argb >> 16 & 0xFF, argb >> 8 & 0xFF, argb & 0xFF);
                 }
+                targetPixels.position (y * lineSize);
+                targetPixels.put (this.targetLine);
+            }
 
-                imageBuffer.rewind ();
-            });
-        }
+        });
 
-        synchronized (this.sendLock)
-        {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
-        }
+        // Publish the encoded block and continue with the previous one
+        final int previous = this.readyIndex.getAndSet (this.encodeIndex | NEW_FRAME);
+        if ((previous & NEW_FRAME) > 0)
+            this.droppedFrames.incrementAndGet ();
+        this.encodeIndex = previous & INDEX_MASK;
+
+        if (!this.sendExecutor.isShutdown ())
+            this.sendExecutor.execute (this::sendData);
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
-        synchronized (this.bufferUpdateLock)
+        // Wait for the next frame slot
+        final long wait = this.nextFrameTime - System.nanoTime ();
+        if (wait > 0)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            if (this.isSendScheduled.compareAndSet (false, true))
+                this.sendExecutor.schedule (this::sendPacedData, wait, TimeUnit.NANOSECONDS);
+            return;
         }
 
+        // Take the latest frame, if it was not already sent
+        if ((this.readyIndex.get () & NEW_FRAME) == 0)
+            return;
+        this.sendIndex = this.readyIndex.getAndSet (this.sendIndex) & INDEX_MASK;
+
         // Send the data
+        final long start = System.nanoTime ();
         synchronized (this.sendLock)
         {
             if (this.usbDevice == null || this.usbEndpoint == null)
                 return;
 
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            this.usbEndpoint.send (this.imageBlocks[this.sendIndex], TIMEOUT);
+        }
+        this.updateFramePacing (start, System.nanoTime ());
+    }
+
+
+    private void sendPacedData ()
+    {
+        this.isSendScheduled.set (false);
+        this.sendData ();
+    }
+
+
+    /**
+     * Adapt the frame interval to the average duration of the USB transfers and update the frame
+     * statistics.
+     *
+     * @param start The start time of the transfer in nanoseconds
+     * @param end The end time of the transfer in nanoseconds
+     */
+    private void updateFramePacing (final long start, final long end)
+    {
+        final long duration = end - start;
+        final double latency = this.transferLatency == 0 ? duration : this.transferLatency + (duration - this.transferLatency) * 0.1;
+        this.transferLatency = latency;
+        this.frameInterval = Math.max (MIN_FRAME_INTERVAL, Math.min (MAX_FRAME_INTERVAL, (long) (latency * 1.25)));
+        this.nextFrameTime = start + this.frameInterval;
+
+        this.fpsWindowFrames++;
+        final long elapsed = end - this.fpsWindowStart;
+        if (elapsed >= 1_000_000_000L)
+        {
+            this.framesPerSecond = this.fpsWindowFrames * 1_000_000_000.0 / elapsed;
+            this.fpsWindowStart = end;
+            this.fpsWindowFrames = 0;
         }
     }
 
@@ -183,6 +256,8 @@ public class PushUsbDisplay
                 Thread.currentThread ().interrupt ();
             }
         }
+
+        this.host.println (String.format ("Push display: %.1f frames per second (target %.1f), %d frames dropped, %.2f ms average USB transfer", Double.valueOf (this.framesPerSecond), Double.valueOf (1_000_000_000.0 / this.frameInterval), Long.valueOf (this.droppedFrames.get ()), Double.valueOf (this.transferLatency / 1_000_000.0)));
     }
 
 
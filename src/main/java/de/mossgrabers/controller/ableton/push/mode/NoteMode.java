@@ -15,10 +15,14 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.GridStep;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Editing of note parameters.
@@ -34,6 +38,8 @@ public class NoteMode extends BaseMode<IItem>
     private int         step    = 0;
     private int         note    = 60;
 
+    private final List<GridStep> notes = new ArrayList<> ();
+
 
     /**
      * Constructor.
@@ -59,10 +65,42 @@ public class NoteMode extends BaseMode<IItem>
      */
     public void setValues (final INoteClip clip, final int channel, final int step, final int note)
     {
+        this.clip = null;
+        this.notes.clear ();
+        this.addValues (clip, channel, step, note);
+    }
+
+
+    /**
+     * Add a note to the edited notes, e.g. to edit all notes of a chord at the same time. The
+     * display shows the values of the added note. If the note is in a different clip than the
+     * other edited notes, it replaces them. Nothing is added if the clip is null.
+     *
+     * @param clip The clip to edit
+     * @param channel The MIDI channel
+     * @param step The step to edit
+     * @param note The note to edit
+     */
+    public void addValues (final INoteClip clip, final int channel, final int step, final int note)
+    {
+        if (clip == null)
+            return;
+        if (clip != this.clip)
+            this.notes.clear ();
+
         this.clip = clip;
         this.channel = channel;
         this.step = step;
         this.note = note;
+
+        for (final GridStep gridStep: this.notes)
+        {
+            if (gridStep.getChannel () == channel && gridStep.getStep () == step && gridStep.getNote () == note)
+                return;
+        }
+        final GridStep gridStep = new GridStep ();
+        gridStep.set (clip, channel, step, note);
+        this.notes.add (gridStep);
     }
 
 
@@ -79,41 +117,49 @@ public class NoteMode extends BaseMode<IItem>
             switch (index)
             {
                 case 0:
-                    this.clip.updateStepDuration (this.channel, this.step, this.note, 1.0);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.updateStepDuration (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 1.0);
                     break;
 
                 case 1:
-                    this.clip.updateStepVelocity (this.channel, this.step, this.note, 1.0);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.updateStepVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 1.0);
                     break;
 
                 case 2:
                     if (this.host.supports (Capability.NOTE_EDIT_RELEASE_VELOCITY))
-                        this.clip.updateStepReleaseVelocity (this.channel, this.step, this.note, 1.0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepReleaseVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 1.0);
                     break;
 
                 case 3:
                     if (this.host.supports (Capability.NOTE_EDIT_GAIN))
-                        this.clip.updateStepGain (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepGain (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case 4:
                     if (this.host.supports (Capability.NOTE_EDIT_PANORAMA))
-                        this.clip.updateStepPan (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepPan (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case 5:
                     if (this.host.supports (Capability.NOTE_EDIT_TRANSPOSE))
-                        this.clip.updateStepTranspose (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepTranspose (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case 6:
                     if (this.host.supports (Capability.NOTE_EDIT_TIMBRE))
-                        this.clip.updateStepTimbre (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepTimbre (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case 7:
                     if (this.host.supports (Capability.NOTE_EDIT_PRESSURE))
-                        this.clip.updateStepPressure (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepPressure (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 default:
@@ -123,7 +169,7 @@ public class NoteMode extends BaseMode<IItem>
         }
 
         if (isTouched)
-            this.clip.startEdit (this.channel, this.step, this.note);
+            this.clip.startEdit (this.notes);
         else
             this.clip.stopEdit ();
     }
@@ -139,41 +185,49 @@ public class NoteMode extends BaseMode<IItem>
         switch (index)
         {
             case 0:
-                this.clip.changeStepDuration (this.channel, this.step, this.note, value);
+                for (final GridStep gridStep: this.notes)
+                    this.clip.changeStepDuration (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 1:
-                this.clip.changeStepVelocity (this.channel, this.step, this.note, value);
+                for (final GridStep gridStep: this.notes)
+                    this.clip.changeStepVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 2:
                 if (this.host.supports (Capability.NOTE_EDIT_RELEASE_VELOCITY))
-                    this.clip.changeStepReleaseVelocity (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepReleaseVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 3:
                 if (this.host.supports (Capability.NOTE_EDIT_GAIN))
-                    this.clip.changeStepGain (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepGain (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 4:
                 if (this.host.supports (Capability.NOTE_EDIT_PANORAMA))
-                    this.clip.changeStepPan (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepPan (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 5:
                 if (this.host.supports (Capability.NOTE_EDIT_TRANSPOSE))
-                    this.clip.changeStepTranspose (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepTranspose (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 6:
                 if (this.host.supports (Capability.NOTE_EDIT_TIMBRE))
-                    this.clip.changeStepTimbre (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepTimbre (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 7:
                 if (this.host.supports (Capability.NOTE_EDIT_PRESSURE))
-                    this.clip.changeStepPressure (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepPressure (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             default:
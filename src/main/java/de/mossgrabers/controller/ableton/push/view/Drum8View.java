@@ -57,7 +57,11 @@ public class Drum8View extends AbstractDrum8View<PushControlSurface, PushConfigu
 
         final ModeManager modeManager = this.surface.getModeManager ();
         final NoteMode noteMode = (NoteMode) modeManager.get (Modes.NOTE);
-        noteMode.setValues (clip, editMidiChannel, stepX, stepY);
+        // Hold several pads to edit all their notes
+        if (modeManager.isActive (Modes.NOTE) && this.isOtherPadPressed (index))
+            noteMode.addValues (clip, editMidiChannel, stepX, stepY);
+        else
+            noteMode.setValues (clip, editMidiChannel, stepX, stepY);
         modeManager.setActive (Modes.NOTE);
     }
 
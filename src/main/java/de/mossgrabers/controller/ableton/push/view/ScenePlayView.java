@@ -9,7 +9,6 @@ import de.mossgrabers.controller.ableton.push.controller.PushColorManager;
 import de.mossgrabers.controller.ableton.push.controller.PushControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
@@ -56,7 +55,7 @@ public class ScenePlayView extends AbstractView<PushControlSurface, PushConfigur
                 padGrid.light (36 + i, isPush2 ? PushColorManager.PUSH2_COLOR2_WHITE : PushColorManager.PUSH1_COLOR2_WHITE);
             else
             {
-                final String color = scene.doesExist () ? DAWColor.getColorIndex (scene.getColor ()) : IPadGrid.GRID_OFF;
+                final String color = scene.doesExist () ? scene.getColorIndex () : IPadGrid.GRID_OFF;
                 padGrid.light (36 + i, color);
             }
         }
@@ -63,7 +63,11 @@ public class SequencerView extends AbstractNoteSequencerView<PushControlSurface,
 
         final ModeManager modeManager = this.surface.getModeManager ();
         final NoteMode noteMode = (NoteMode) modeManager.get (Modes.NOTE);
-        noteMode.setValues (cursorClip, editMidiChannel, x, mappedNote);
+        // Hold several pads to edit all their notes
+        if (modeManager.isActive (Modes.NOTE) && this.isOtherPadPressed (index))
+            noteMode.addValues (cursorClip, editMidiChannel, x, mappedNote);
+        else
+            noteMode.setValues (cursorClip, editMidiChannel, x, mappedNote);
         modeManager.setActive (Modes.NOTE);
     }
 }
\ No newline at end of file
@@ -16,7 +16,8 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class APCPadGrid extends PadGridImpl
 {
-    private final boolean isMkII;
+    private final boolean  isMkII;
+    private final int [][] translations = new int [NUM_NOTES][];
 
 
     /**
@@ -30,6 +31,27 @@ public class APCPadGrid extends PadGridImpl
     {
         super (colorManager, output, 5, 8, 36);
         this.isMkII = isMkII;
+
+        for (int note = 0; note < NUM_NOTES; note++)
+        {
+            final int n = note - 36;
+            if (isMkII)
+            {
+                this.translations[note] = new int []
+                {
+                    0,
+                    n
+                };
+            }
+            else
+            {
+                this.translations[note] = new int []
+                {
+                    n % 8,
+                    0x39 - n / 8
+                };
+            }
+        }
     }
 
 
@@ -56,19 +78,6 @@ public class APCPadGrid extends PadGridImpl
     @Override
     public int [] translateToController (final int note)
     {
-        final int n = note - 36;
-
-        if (this.isMkII)
-            return new int []
-            {
-                0,
-                n
-            };
-
-        return new int []
-        {
-            n % 8,
-            0x39 - n / 8
-        };
+        return this.translations[note];
     }
 }
\ No newline at end of file
@@ -9,7 +9,6 @@ import de.mossgrabers.controller.akai.apc.controller.APCControlSurface;
 import de.mossgrabers.controller.akai.apc.mode.NoteMode;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
@@ -84,7 +83,7 @@ public class DrumView extends AbstractDrumView<APCControlSurface, APCConfigurati
     @Override
     protected String getPadContentColor (final IChannel drumPad)
     {
-        return this.surface.isMkII () ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.surface.isMkII () ? drumPad.getColorIndex () : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
     }
 
 
@@ -8,7 +8,6 @@ import de.mossgrabers.controller.akai.apc.APCConfiguration;
 import de.mossgrabers.controller.akai.apc.controller.APCColorManager;
 import de.mossgrabers.controller.akai.apc.controller.APCControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -77,7 +76,7 @@ public class SessionView extends AbstractSessionView<APCControlSurface, APCConfi
         if (s.isSelected ())
             return AbstractSessionView.COLOR_SELECTED_SCENE;
 
-        return this.useClipColor ? DAWColor.getColorIndex (s.getColor ()) : AbstractSessionView.COLOR_SCENE;
+        return this.useClipColor ? s.getColorIndex () : AbstractSessionView.COLOR_SCENE;
     }
 
 
@@ -16,6 +16,20 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class APCminiPadGrid extends PadGridImpl
 {
+    private static final int [][] TRANSLATIONS = new int [NUM_NOTES][];
+    static
+    {
+        for (int note = 0; note < NUM_NOTES; note++)
+        {
+            TRANSLATIONS[note] = new int []
+            {
+                0,
+                note - 36
+            };
+        }
+    }
+
+
     /**
      * Constructor.
      *
@@ -56,10 +70,6 @@ public class APCminiPadGrid extends PadGridImpl
     @Override
     public int [] translateToController (final int note)
     {
-        return new int []
-        {
-            0,
-            note - 36
-        };
+        return TRANSLATIONS[note];
     }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 
 
@@ -35,15 +36,45 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
-    private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    private static final int       WIDTH             = 128;
+    private static final int       HEIGHT            = 64;
+    private static final int       NUM_STRIPES       = 8;
+    private static final int       STRIPE_PIXELS     = WIDTH * HEIGHT / NUM_STRIPES;
+    private static final int       STRIPE_SIZE       = 147;
+    private static final int       PACKET_SIZE       = 4 + STRIPE_SIZE;
+
+    /** The index of the byte in a stripe for each pixel of a stripe. */
+    private static final int []    PIXEL_BYTE_INDEX  = new int [STRIPE_PIXELS];
+    /** The bit mask in the byte of a stripe for each pixel of a stripe. */
+    private static final byte []   PIXEL_BIT_MASK    = new byte [STRIPE_PIXELS];
+
+    static
+    {
+        // Unwind 128x8 arrangement of a stripe into a 1024x8 arrangement of pixels and re-map by
+        // tiling 7x8 block of translated pixels
+        for (int y = 0; y < HEIGHT / NUM_STRIPES; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                final int remapBit = BIT_MUTATE[y][x % 7];
+                final int pixel = y * WIDTH + x;
+                PIXEL_BYTE_INDEX[pixel] = x / 7 * 8 + remapBit / 7;
+                PIXEL_BIT_MASK[pixel] = (byte) (1 << remapBit % 7);
+            }
+        }
+    }
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final byte [] []       oledBitmap        = new byte [NUM_STRIPES] [STRIPE_SIZE];
+    private final byte [] []       oldOledBitmap     = new byte [NUM_STRIPES] [STRIPE_SIZE];
+    private final boolean []       dirtyStripes      = new boolean [NUM_STRIPES];
+    private final byte []          data              = new byte [12 + STRIPE_SIZE];
 
-    private long                   lastSend      = System.currentTimeMillis ();
+    private long                   lastSend          = System.currentTimeMillis ();
+    private boolean                isFirstFrame      = true;
+    private long                   encodeTime        = 0;
+    private long                   encodedFrames     = 0;
+    private long                   sentStripes       = 0;
 
 
     /**
@@ -56,7 +87,7 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (WIDTH, HEIGHT, maxParameterValue), "Fire Display");
 
         this.output = output;
 
@@ -97,57 +128,86 @@ public class FireDisplay extends AbstractGraphicDisplay
     {
         synchronized (this.data)
         {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
-                {
-                    for (int y = 0; y < height / 8; y++)
-                    {
-                        for (int x = 0; x < width; x++)
-                        {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Re-map by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
-                        }
-                    }
-                }
-            });
+            // No need to encode the image again if nothing was rendered
+            if (this.isFirstFrame || this.isImageChanged ())
+            {
+                this.isFirstFrame = false;
+                final long start = System.nanoTime ();
+                image.encodePixels (this::encode);
+                this.encodeTime += System.nanoTime () - start;
+                this.encodedFrames++;
+            }
 
             // Convert to system exclusive and send to device
-            for (int stripe = 0; stripe < 8; stripe++)
+            for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
                 // Slow down display updates to not flood the device controller
                 // Send if content has change or every 3 seconds if there was no change to keep
                 // the display from going into sleep mode
                 final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
+                if (!this.dirtyStripes[stripe] && now - this.lastSend < 3000)
                     continue;
+                this.dirtyStripes[stripe] = false;
                 System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
                 this.lastSend = now;
 
+                // Start 8-pixel band of update
+                this.data[7] = (byte) stripe;
+                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
+                this.data[8] = (byte) stripe;
+                System.arraycopy (this.oledBitmap[stripe], 0, this.data, 11, STRIPE_SIZE);
+
                 this.output.sendSysex (this.data);
+                this.sentStripes++;
             }
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        super.shutdown ();
+
+        synchronized (this.data)
+        {
+            final double averageEncodeTime = this.encodedFrames == 0 ? 0 : this.encodeTime / 1000.0 / this.encodedFrames;
+            this.host.println (String.format ("Fire display: %d frames encoded (%.1f us per frame), %d stripes sent", Long.valueOf (this.encodedFrames), Double.valueOf (averageEncodeTime), Long.valueOf (this.sentStripes)));
+        }
+    }
+
+
+    /**
+     * Encodes the 128x64 image into the 8 stripes of the OLED format. A stripe is marked as dirty
+     * if it differs from the last sent one.
+     *
+     * @param pixels The image data (alpha, red, green, blue per pixel)
+     * @param width The width of the image
+     * @param height The height of the image
+     */
+    private void encode (final IntBuffer pixels, final int width, final int height)
+    {
+        if (width != WIDTH || height != HEIGHT)
+            return;
+
+        int position = pixels.position ();
+        for (int stripe = 0; stripe < NUM_STRIPES; stripe++)
+        {
+            final byte [] stripeData = this.oledBitmap[stripe];
+            Arrays.fill (stripeData, (byte) 0);
+
+            for (int pixel = 0; pixel < STRIPE_PIXELS; pixel++)
+            {
+                final int argb = pixels.get (position++);
+
+                // The pixel is lit if the sum of the signed color bytes is negative
+                if ((byte) argb + (byte) (argb >> 8) + (byte) (argb >> 16) < 0)
+                    stripeData[PIXEL_BYTE_INDEX[pixel]] |= PIXEL_BIT_MASK[pixel];
+            }
+
+            if (!Arrays.equals (stripeData, this.oldOledBitmap[stripe]))
+                this.dirtyStripes[stripe] = true;
+        }
+    }
 }
\ No newline at end of file
@@ -7,13 +7,9 @@ package de.mossgrabers.controller.akai.fire.controller;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Arrays;
 
 
 /**
@@ -33,15 +29,29 @@ public class FirePadGrid extends BlinkingPadGrid
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_16x4_MATRIX = new HashMap<> (64);
-    static
+    private static final int []                INVERSE_TRANSLATE_16x4_MATRIX = createInverseTranslations (TRANSLATE_16x4_MATRIX, 36);
+    private static final int [][]              TRANSLATIONS                  = createTranslations (0, TRANSLATE_16x4_MATRIX);
+
+    private static final byte []               SYSEX_HEADER                  =
     {
-        for (int i = 0; i < TRANSLATE_16x4_MATRIX.length; i++)
-            INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
-    }
+        (byte) 0xF0,
+        0x47,
+        0x7F,
+        0x43,
+        0x65
+    };
+
+    private static final int                   NOT_CALCULATED                = -1;
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private double                             padBrightness                 = 1.0;
+    private double                             padSaturation                 = 1.0;
+
+    /** The scaled RGB127 colors of the color indices, packed into one integer. */
+    private final int []                       scaledPalette                 = new int [128];
+    /** Pad changes plus blinking pads, 4 bytes each, plus header and end byte. */
+    private final byte []                      sysexBuffer                   = new byte [SYSEX_HEADER.length + 2 + 2 * 64 * 4 + 1];
+    /** The messages to send, one for each number of pad changes, allocated on first use. */
+    private final byte [][]                    sysexMessages                 = new byte [2 * 64 + 1][];
 
 
     /**
@@ -53,6 +63,9 @@ public class FirePadGrid extends BlinkingPadGrid
     public FirePadGrid (final ColorManager colorManager, final IMidiOutput output)
     {
         super (colorManager, output, 4, 16, 36);
+
+        Arrays.fill (this.scaledPalette, NOT_CALCULATED);
+        System.arraycopy (SYSEX_HEADER, 0, this.sysexBuffer, 0, SYSEX_HEADER.length);
     }
 
 
@@ -60,8 +73,7 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_16x4_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note >= 0 && note < INVERSE_TRANSLATE_16x4_MATRIX.length ? INVERSE_TRANSLATE_16x4_MATRIX[note] : -1;
     }
 
 
@@ -69,11 +81,7 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     public int [] translateToController (final int note)
     {
-        return new int []
-        {
-            0,
-            TRANSLATE_16x4_MATRIX[note - 36]
-        };
+        return TRANSLATIONS[note - 36];
     }
 
 
@@ -81,60 +89,83 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
+        int position = SYSEX_HEADER.length + 2;
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = this.padInfos.nextChange (0); note >= 0; note = this.padInfos.nextChange (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
-            // Note: The exact PADx is not needed for getting the color
-            final int [] c = this.colorManager.getColor (info.getColor (), ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
+            position = this.addPadColor (position, note - 54, this.padInfos.getColor (note));
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
+            this.padInfos.setBlinking (note, this.padInfos.getBlinkColor (note) > 0);
         }
 
-        int length = this.padInfos.size ();
-
         // Toggle blink colors every 600ms
         if (this.checkBlinking ())
         {
-            length += this.blinkingLights.size ();
-
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+            for (int note = this.padInfos.nextBlinking (0); note >= 0; note = this.padInfos.nextBlinking (note + 1))
             {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                final int colorIndex = this.isBlink ? this.padInfos.getBlinkColor (note) : this.padInfos.getColor (note);
+                position = this.addPadColor (position, note - 54, colorIndex);
             }
         }
 
         // No update necessary
-        if (sb.length () == 0)
+        final int length = position - SYSEX_HEADER.length - 2;
+        if (length == 0)
             return;
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
+        this.sysexBuffer[SYSEX_HEADER.length] = (byte) (length / 128);
+        this.sysexBuffer[SYSEX_HEADER.length + 1] = (byte) (length % 128);
+        this.sysexBuffer[position++] = (byte) 0xF7;
+
+        // The output can only send whole arrays, reuse one for each message length
+        final int count = length / 4;
+        if (this.sysexMessages[count] == null)
+            this.sysexMessages[count] = new byte [position];
+        System.arraycopy (this.sysexBuffer, 0, this.sysexMessages[count], 0, position);
+        this.output.sendSysex (this.sysexMessages[count]);
+    }
+
 
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+    /**
+     * Add the pad index and the scaled color of a pad to the SysEx buffer.
+     *
+     * @param position The position in the buffer where to add the data
+     * @param index The index of the pad
+     * @param colorIndex The color index
+     * @return The position after the added data
+     */
+    private int addPadColor (final int position, final int index, final int colorIndex)
+    {
+        final int rgb = this.getScaledColor (colorIndex);
+        this.sysexBuffer[position] = (byte) index;
+        this.sysexBuffer[position + 1] = (byte) (rgb >> 16 & 0x7F);
+        this.sysexBuffer[position + 2] = (byte) (rgb >> 8 & 0x7F);
+        this.sysexBuffer[position + 3] = (byte) (rgb & 0x7F);
+        return position + 4;
+    }
+
+
+    /**
+     * Get the color of a color index scaled by the pad brightness and saturation. The color is
+     * only calculated on first use after a change of the brightness or saturation.
+     *
+     * @param colorIndex The color index
+     * @return The RGB127 values packed into one integer
+     */
+    private int getScaledColor (final int colorIndex)
+    {
+        final boolean isCacheable = colorIndex >= 0 && colorIndex < this.scaledPalette.length;
+        if (isCacheable && this.scaledPalette[colorIndex] != NOT_CALCULATED)
+            return this.scaledPalette[colorIndex];
+
+        // Note: The exact PADx is not needed for getting the color
+        final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
+        final int rgb = c[0] << 16 | c[1] << 8 | c[2];
+        if (isCacheable)
+            this.scaledPalette[colorIndex] = rgb;
+        return rgb;
     }
 
 
@@ -146,7 +177,11 @@ public class FirePadGrid extends BlinkingPadGrid
      */
     void configureLEDs (final double padBrightness, final double padSaturation)
     {
-        this.padBrightness = padBrightness;
-        this.padSaturation = padSaturation;
+        synchronized (this.padInfos)
+        {
+            this.padBrightness = padBrightness;
+            this.padSaturation = padSaturation;
+            Arrays.fill (this.scaledPalette, NOT_CALCULATED);
+        }
     }
 }
\ No newline at end of file
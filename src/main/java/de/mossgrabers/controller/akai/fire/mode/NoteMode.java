@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.GridStep;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 import de.mossgrabers.framework.featuregroup.IView;
@@ -22,6 +23,7 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.AbstractSequencerView;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -45,6 +47,8 @@ public class NoteMode extends AbstractMode<FireControlSurface, FireConfiguration
     private int         step    = 0;
     private int         note    = 60;
 
+    private final List<GridStep> notes = new ArrayList<> ();
+
 
     /**
      * Constructor.
@@ -70,10 +74,42 @@ public class NoteMode extends AbstractMode<FireControlSurface, FireConfiguration
      */
     public void setValues (final INoteClip clip, final int channel, final int step, final int note)
     {
+        this.clip = null;
+        this.notes.clear ();
+        this.addValues (clip, channel, step, note);
+    }
+
+
+    /**
+     * Add a note to the edited notes, e.g. to edit all notes of a chord at the same time. The
+     * display shows the values of the added note. If the note is in a different clip than the
+     * other edited notes, it replaces them. Nothing is added if the clip is null.
+     *
+     * @param clip The clip to edit
+     * @param channel The MIDI channel
+     * @param step The step to edit
+     * @param note The note to edit
+     */
+    public void addValues (final INoteClip clip, final int channel, final int step, final int note)
+    {
+        if (clip == null)
+            return;
+        if (clip != this.clip)
+            this.notes.clear ();
+
         this.clip = clip;
         this.channel = channel;
         this.step = step;
         this.note = note;
+
+        for (final GridStep gridStep: this.notes)
+        {
+            if (gridStep.getChannel () == channel && gridStep.getStep () == step && gridStep.getNote () == note)
+                return;
+        }
+        final GridStep gridStep = new GridStep ();
+        gridStep.set (clip, channel, step, note);
+        this.notes.add (gridStep);
     }
 
 
@@ -90,7 +126,7 @@ public class NoteMode extends AbstractMode<FireControlSurface, FireConfiguration
         this.isKnobTouched[index] = isTouched;
         if (isTouched)
         {
-            this.clip.startEdit (this.channel, this.step, this.note);
+            this.clip.startEdit (this.notes);
             this.preventNoteDeletion ();
         }
         else
@@ -109,27 +145,32 @@ public class NoteMode extends AbstractMode<FireControlSurface, FireConfiguration
         {
             case 0:
                 if (this.host.supports (Capability.NOTE_EDIT_GAIN))
-                    this.clip.changeStepGain (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepGain (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 1:
                 if (this.host.supports (Capability.NOTE_EDIT_PANORAMA))
-                    this.clip.changeStepPan (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepPan (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 2:
-                this.clip.changeStepDuration (this.channel, this.step, this.note, value);
+                for (final GridStep gridStep: this.notes)
+                    this.clip.changeStepDuration (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             case 3:
-                this.clip.changeStepVelocity (this.channel, this.step, this.note, value);
+                for (final GridStep gridStep: this.notes)
+                    this.clip.changeStepVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 break;
 
             // This is the select knob
             case 4:
                 if (this.host.supports (Capability.NOTE_EDIT_TRANSPOSE))
                 {
-                    this.clip.changeStepTranspose (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepTranspose (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                     this.preventNoteDeletion ();
                 }
                 break;
@@ -230,6 +271,7 @@ public class NoteMode extends AbstractMode<FireControlSurface, FireConfiguration
     public void resetTranspose ()
     {
         if (this.clip != null && this.host.supports (Capability.NOTE_EDIT_TRANSPOSE))
-            this.clip.updateStepTranspose (this.channel, this.step, this.note, 0);
+            for (final GridStep gridStep: this.notes)
+                this.clip.updateStepTranspose (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
     }
 }
\ No newline at end of file
@@ -76,7 +76,11 @@ public class Drum4View extends AbstractDrum4View<FireControlSurface, FireConfigu
             if (state == IStepInfo.NOTE_START)
             {
                 final NoteMode noteMode = (NoteMode) modeManager.get (Modes.NOTE);
-                noteMode.setValues (clip, channel, step, sound);
+                // The mode is still active if another pad is held, edit the notes of all of them
+                if (modeManager.isActive (Modes.NOTE))
+                    noteMode.addValues (clip, channel, step, sound);
+                else
+                    noteMode.setValues (clip, channel, step, sound);
                 modeManager.setActive (Modes.NOTE);
             }
         }
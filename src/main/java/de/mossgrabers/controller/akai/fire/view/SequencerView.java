@@ -58,7 +58,11 @@ public class SequencerView extends AbstractNoteSequencerView<FireControlSurface,
             if (state == IStepInfo.NOTE_START)
             {
                 final NoteMode noteMode = (NoteMode) modeManager.get (Modes.NOTE);
-                noteMode.setValues (clip, channel, x, mappedY);
+                // The mode is still active if another pad is held, edit the notes of all of them
+                if (modeManager.isActive (Modes.NOTE))
+                    noteMode.addValues (clip, channel, x, mappedY);
+                else
+                    noteMode.setValues (clip, channel, x, mappedY);
                 modeManager.setActive (Modes.NOTE);
             }
         }
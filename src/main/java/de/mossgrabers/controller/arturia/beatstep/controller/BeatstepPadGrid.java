@@ -17,6 +17,20 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class BeatstepPadGrid extends PadGridImpl
 {
+    private static final int [][] TRANSLATIONS = new int [NUM_NOTES][];
+    static
+    {
+        for (int note = 0; note < NUM_NOTES; note++)
+        {
+            TRANSLATIONS[note] = new int []
+            {
+                2,
+                note
+            };
+        }
+    }
+
+
     /**
      * Constructor.
      *
@@ -68,8 +82,6 @@ public class BeatstepPadGrid extends PadGridImpl
     @Override
     public int [] translateToController (final int note)
     {
-        final int [] translate = super.translateToController (note);
-        translate[0] = 2;
-        return translate;
+        return TRANSLATIONS[note];
     }
 }
\ No newline at end of file
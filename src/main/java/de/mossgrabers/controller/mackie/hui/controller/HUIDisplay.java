@@ -5,12 +5,14 @@
 package de.mossgrabers.controller.mackie.hui.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
+import de.mossgrabers.framework.controller.display.TextLineDiff;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -23,8 +25,16 @@ import java.util.concurrent.TimeUnit;
 public class HUIDisplay extends AbstractTextDisplay
 {
     private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    /** The header (7 bytes), the cell index and the final F7. */
+    private static final int         MESSAGE_OVERHEAD     = 9;
+    private static final int         SEGMENT_LENGTH       = 4;
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    // Segments are sent individually, therefore never merge ranges
+    private final TextLineDiff       lineDiff             = new TextLineDiff (36, 0);
+    private final AtomicBoolean      resendRequest        = new AtomicBoolean ();
+    // Only accessed by the executor
+    private String                   lastSentLine;
 
 
     /**
@@ -59,23 +69,53 @@ public class HUIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        // The sent line is reset by the executor, since a running send would store its line after
+        // a reset done here
+        this.resendRequest.set (true);
+    }
+
+
     /**
-     * Send a line to the display.
+     * Send a line to the display. The display can only be addressed in segments of 4 characters,
+     * therefore only the segments which contain changed characters are sent.
      *
      * @param text The text to send
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
+        if (this.resendRequest.getAndSet (false))
+            this.lastSentLine = null;
 
-        final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
+        final int count = this.lineDiff.diff (this.lastSentLine, text);
+        if (count == 0)
+            return;
+
+        final int [] array = new int [1 + SEGMENT_LENGTH];
+        int sentBytes = 0;
+        int nextCell = 0;
+        for (int i = 0; i < count; i++)
         {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            final int firstCell = Math.max (nextCell, this.lineDiff.getSpanStart (i) / SEGMENT_LENGTH);
+            final int lastCell = Math.min (this.noOfCells - 1, (this.lineDiff.getSpanEnd (i) - 1) / SEGMENT_LENGTH);
+            for (int cell = firstCell; cell <= lastCell; cell++)
+            {
+                array[0] = cell;
+                for (int c = 0; c < SEGMENT_LENGTH; c++)
+                    array[1 + c] = text.charAt (cell * SEGMENT_LENGTH + c);
+                this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                sentBytes += MESSAGE_OVERHEAD + SEGMENT_LENGTH;
+            }
+            nextCell = lastCell + 1;
         }
+
+        this.lastSentLine = text;
+        this.lineDiff.addStatistics (this.noOfCells * (MESSAGE_OVERHEAD + SEGMENT_LENGTH), sentBytes);
     }
 
 
@@ -96,5 +136,7 @@ public class HUIDisplay extends AbstractTextDisplay
             this.host.error ("HUI display send executor did not end in 10 seconds. Interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
+
+        this.host.println (String.format ("HUI display: %d bytes sent, %d bytes saved by sending only changed segments (%.1f bytes/s)", Long.valueOf (this.lineDiff.getBytesSent ()), Long.valueOf (this.lineDiff.getBytesSaved ()), Double.valueOf (this.lineDiff.getBytesSavedPerSecond ())));
     }
 }
\ No newline at end of file
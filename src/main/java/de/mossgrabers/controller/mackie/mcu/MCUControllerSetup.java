@@ -96,6 +96,7 @@ import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.MasterVolumeMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.utils.ShortenedNames;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
 
@@ -181,19 +182,20 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         super.flush ();
 
-        this.surfaces.forEach (surface -> {
-            final ModeManager modeManager = surface.getModeManager ();
-            final Modes mode = modeManager.getActiveID ();
-            this.updateMode (mode);
+        // The mode managers of all devices are connected, therefore the values which are sent to
+        // all devices need to be updated only once
+        final Modes mode = this.getSurface ().getModeManager ().getActiveID ();
+        this.updateMode (mode);
 
-            if (mode == null)
-                return;
+        if (mode == null)
+            return;
 
-            this.updateVUMeters ();
-            this.updateFaders (surface.isShiftPressed ());
-            this.updateSegmentDisplay ();
+        this.updateVUMeters ();
+        this.updateFaders (this.isShiftPressed ());
+        this.updateSegmentDisplay ();
 
-            final IMode activeOrTempMode = modeManager.getActive ();
+        this.surfaces.forEach (surface -> {
+            final IMode activeOrTempMode = surface.getModeManager ().getActive ();
             if (activeOrTempMode instanceof BaseMode)
                 ((BaseMode<?>) activeOrTempMode).updateKnobLEDs ();
         });
@@ -319,6 +321,20 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 this.getSurface ().getModeManager ().setActive (Modes.MASTER);
         });
 
+        // Shorten the track names for the display only once after a rename
+        final ITrackBank trackBank = this.model.getTrackBank ();
+        final ShortenedNames trackNames = new ShortenedNames (trackBank.getPageSize (), 6, 7);
+        trackBank.addNameObserver (trackNames);
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        ShortenedNames effectTrackNames = null;
+        if (effectTrackBank != null)
+        {
+            effectTrackNames = new ShortenedNames (effectTrackBank.getPageSize (), 6, 7);
+            effectTrackBank.addNameObserver (effectTrackNames);
+        }
+        for (final MCUControlSurface surface: this.surfaces)
+            surface.setShortenedTrackNames (trackNames, effectTrackNames);
+
         this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> {
             for (int index = 0; index < this.numMCUDevices; index++)
             {
@@ -782,6 +798,22 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    /**
+     * Shift is only available on the main device, which is the last one if extenders are used.
+     *
+     * @return True if Shift is pressed on one of the devices
+     */
+    private boolean isShiftPressed ()
+    {
+        for (int index = 0; index < this.numMCUDevices; index++)
+        {
+            if (this.getSurface (index).isShiftPressed ())
+                return true;
+        }
+        return false;
+    }
+
+
     private void updateFaders (final boolean isShiftPressed)
     {
         if (!this.configuration.hasMotorFaders ())
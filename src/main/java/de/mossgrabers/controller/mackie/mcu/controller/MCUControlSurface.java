@@ -11,6 +11,8 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.utils.ShortenedNames;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -188,6 +190,8 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
 
     private int                           activeVuMode             = VUMODE_LED;
     private int []                        knobValues               = new int [8];
+    private ShortenedNames                trackNames;
+    private ShortenedNames                effectTrackNames;
 
     private final List<MCUControlSurface> surfaces;
     private final int                     extenderOffset;
@@ -387,4 +391,33 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     {
         return this.isMainDevice;
     }
+
+
+    /**
+     * Set the shortened track names, which are prepared by the name observers of the track banks.
+     *
+     * @param trackNames The names of the track bank
+     * @param effectTrackNames The names of the effect track bank, might be null
+     */
+    public void setShortenedTrackNames (final ShortenedNames trackNames, final ShortenedNames effectTrackNames)
+    {
+        this.trackNames = trackNames;
+        this.effectTrackNames = effectTrackNames;
+    }
+
+
+    /**
+     * Get the shortened name of a track for the display.
+     *
+     * @param isEffectTrack True if the track is from the effect track bank
+     * @param index The index of the track on the bank page
+     * @param name The name of the track
+     * @param length The length to shorten to
+     * @return The shortened name, same as StringUtils.shortenAndFixASCII
+     */
+    public String getShortenedTrackName (final boolean isEffectTrack, final int index, final String name, final int length)
+    {
+        final ShortenedNames names = isEffectTrack ? this.effectTrackNames : this.trackNames;
+        return names == null ? StringUtils.shortenAndFixASCII (name, length) : names.get (index, name, length);
+    }
 }
\ No newline at end of file
@@ -6,12 +6,13 @@ package de.mossgrabers.controller.mackie.mcu.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.display.TextLineDiff;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -21,15 +22,49 @@ import java.util.concurrent.TimeUnit;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final byte []                SYSEX_DISPLAY_HEADER1_MAIN     = new byte []
+    {
+        (byte) 0xF0,
+        (byte) 0x00,
+        (byte) 0x00,
+        (byte) 0x66,
+        (byte) 0x14,
+        (byte) 0x12
+    };
+
+    private static final byte []                SYSEX_DISPLAY_HEADER1_EXTENDER = new byte []
+    {
+        (byte) 0xF0,
+        (byte) 0x00,
+        (byte) 0x00,
+        (byte) 0x66,
+        (byte) 0x15,
+        (byte) 0x12
+    };
+
+    private static final byte []                SYSEX_DISPLAY_HEADER2          = new byte []
+    {
+        (byte) 0xF0,
+        (byte) 0x00,
+        (byte) 0x00,
+        (byte) 0x67,
+        (byte) 0x15,
+        (byte) 0x13
+    };
+
+    /** The header, the offset byte and the final F7. */
+    private static final int                    MESSAGE_OVERHEAD               = SYSEX_DISPLAY_HEADER1_MAIN.length + 2;
+    private static final int                    LINE_LENGTH                    = 0x38;
 
-    private final boolean               isFirstDisplay;
-    private final boolean               isExtender;
-    private final boolean               hasMaster;
+    private final boolean                       isFirstDisplay;
+    private final boolean                       isExtender;
+    private final boolean                       hasMaster;
 
-    private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final LatestTaskExecutor []         executors                      = new LatestTaskExecutor [2];
+    private final TextLineDiff []               lineDiffs                      = new TextLineDiff [2];
+    private final AtomicBoolean []              resendRequests                 = new AtomicBoolean [2];
+    // Only accessed by the executors of the rows
+    private final String []                     lastSentLines                  = new String [2];
 
 
     /**
@@ -50,8 +85,12 @@ public class MCUDisplay extends AbstractTextDisplay
         this.hasMaster = hasMaster;
         this.isExtender = isMCUExtender;
 
-        for (int i = 0; i < 4; i++)
+        for (int i = 0; i < 2; i++)
             this.executors[i] = new LatestTaskExecutor ();
+        for (int i = 0; i < 2; i++)
+            this.lineDiffs[i] = new TextLineDiff (LINE_LENGTH, MESSAGE_OVERHEAD);
+        for (int i = 0; i < 2; i++)
+            this.resendRequests[i] = new AtomicBoolean ();
     }
 
 
@@ -61,7 +100,7 @@ public class MCUDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell - 1) + " ";
+            this.writeCell (row, column, value, 0, this.charactersOfCell - 1);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -91,18 +130,14 @@ public class MCUDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
+        final LatestTaskExecutor executor = this.executors[row];
         if (executor.isShutdown ())
             return;
 
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendChangedRanges (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -112,7 +147,62 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader ()
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        // The sent lines are reset by the executors, since a running send would store its line
+        // after a reset done here
+        for (int i = 0; i < 2; i++)
+            this.resendRequests[i].set (true);
+    }
+
+
+    /**
+     * Sends only the ranges of the line which differ from the previously sent text. The MCU
+     * protocol supports writing at an arbitrary offset of the display.
+     *
+     * @param row The row
+     * @param text The text of the row
+     */
+    private void sendChangedRanges (final int row, final String text)
+    {
+        if (this.resendRequests[row].getAndSet (false))
+            this.lastSentLines[row] = null;
+
+        final TextLineDiff lineDiff = this.lineDiffs[row];
+        final int count = lineDiff.diff (this.lastSentLines[row], text);
+        if (count == 0)
+            return;
+
+        final byte [] header = this.getHeader ();
+        final int rowOffset = row == 0 ? 0 : LINE_LENGTH;
+        int sentBytes = 0;
+        for (int i = 0; i < count; i++)
+        {
+            final int start = lineDiff.getSpanStart (i);
+            final int end = lineDiff.getSpanEnd (i);
+
+            final byte [] data = new byte [header.length + end - start + 2];
+            System.arraycopy (header, 0, data, 0, header.length);
+            int pos = header.length;
+            data[pos++] = (byte) (rowOffset + start);
+            for (int c = start; c < end; c++)
+                data[pos++] = (byte) (text.charAt (c) & 0x7F);
+            data[pos] = (byte) 0xF7;
+
+            this.output.sendSysex (data);
+            sentBytes += data.length;
+        }
+
+        this.lastSentLines[row] = text;
+        lineDiff.addStatistics (MESSAGE_OVERHEAD + text.length (), sentBytes);
+    }
+
+
+    private byte [] getHeader ()
     {
         if (this.isFirstDisplay)
             return this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN;
@@ -127,7 +217,7 @@ public class MCUDisplay extends AbstractTextDisplay
         this.notifyOnDisplay ("Please start " + this.host.getName () + "...");
 
         // Prevent further sends
-        for (int i = 0; i < 4; i++)
+        for (int i = 0; i < 2; i++)
         {
             this.executors[i].shutdown ();
             try
@@ -140,5 +230,16 @@ public class MCUDisplay extends AbstractTextDisplay
                 Thread.currentThread ().interrupt ();
             }
         }
+
+        long bytesSent = 0;
+        long bytesSaved = 0;
+        double bytesSavedPerSecond = 0;
+        for (final TextLineDiff lineDiff: this.lineDiffs)
+        {
+            bytesSent += lineDiff.getBytesSent ();
+            bytesSaved += lineDiff.getBytesSaved ();
+            bytesSavedPerSecond += lineDiff.getBytesSavedPerSecond ();
+        }
+        this.host.println (String.format ("MCU display: %d bytes sent, %d bytes saved by sending only changed ranges (%.1f bytes/s)", Long.valueOf (bytesSent), Long.valueOf (bytesSaved), Double.valueOf (bytesSavedPerSecond)));
     }
 }
\ No newline at end of file
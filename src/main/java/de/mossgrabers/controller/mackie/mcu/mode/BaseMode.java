@@ -179,7 +179,7 @@ public abstract class BaseMode<B extends IItem> extends AbstractMode<MCUControlS
         for (int i = 0; i < 8; i++)
         {
             final ITrack t = tb.getItem (extenderOffset + i);
-            d2.setCell (0, i, StringUtils.shortenAndFixASCII (t.getName (), isMainDevice ? 6 : 7));
+            d2.setCell (0, i, this.getShortenedTrackName (tb, extenderOffset + i, isMainDevice ? 6 : 7));
         }
 
         if (isMainDevice)
@@ -220,6 +220,21 @@ public abstract class BaseMode<B extends IItem> extends AbstractMode<MCUControlS
     }
 
 
+    /**
+     * Get the shortened name of a track, which was prepared when the name changed.
+     *
+     * @param trackBank The track bank
+     * @param index The index of the track on the bank page
+     * @param length The length to shorten to
+     * @return The shortened name
+     */
+    protected String getShortenedTrackName (final ITrackBank trackBank, final int index, final int length)
+    {
+        final boolean isEffectTrack = trackBank == this.model.getEffectTrackBank ();
+        return this.surface.getShortenedTrackName (isEffectTrack, index, trackBank.getItem (index).getName (), length);
+    }
+
+
     protected int getExtenderOffset ()
     {
         return this.useFxBank ? 0 : this.surface.getExtenderOffset ();
@@ -10,7 +10,6 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -44,10 +43,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
 
         // Format track names
         for (int i = 0; i < 8; i++)
-        {
-            final ITrack t = tb.getItem (extenderOffset + i);
-            d.setCell (0, i, StringUtils.shortenAndFixASCII (t.getName (), 6));
-        }
+            d.setCell (0, i, this.getShortenedTrackName (tb, extenderOffset + i, 6));
         d.done (0);
 
         return true;
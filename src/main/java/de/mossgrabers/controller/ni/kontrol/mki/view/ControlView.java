@@ -7,7 +7,6 @@ package de.mossgrabers.controller.ni.kontrol.mki.view;
 import de.mossgrabers.controller.ni.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.controller.ni.kontrol.mki.controller.Kontrol1ControlSurface;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
@@ -89,7 +88,7 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
         // Muted or soloed?
         if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
             return AbstractDrumView.COLOR_PAD_MUTED;
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return drumPad.getColorIndex ();
     }
 
 
@@ -6,11 +6,8 @@ package de.mossgrabers.controller.ni.maschine.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.Map.Entry;
-
 
 /**
  * Implementation of the Maschine grid of pads.
@@ -19,6 +16,20 @@ import java.util.Map.Entry;
  */
 public class MaschinePadGrid extends BlinkingPadGrid
 {
+    private static final int [][] TRANSLATIONS = new int [NUM_NOTES][];
+    static
+    {
+        for (int i = 0; i < NUM_NOTES; i++)
+        {
+            TRANSLATIONS[i] = new int []
+            {
+                0,
+                i
+            };
+        }
+    }
+
+
     /**
      * Constructor.
      *
@@ -31,37 +42,37 @@ public class MaschinePadGrid extends BlinkingPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int [] translateToController (final int note)
+    {
+        return TRANSLATIONS[note];
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void updateController ()
     {
         final int channel = 0;
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = this.padInfos.nextChange (0); note >= 0; note = this.padInfos.nextChange (note + 1))
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-
             // Note: The exact PADx is not needed for getting the color
 
-            this.output.sendNoteEx (channel, note.intValue (), info.getColor ());
+            this.output.sendNoteEx (channel, note, this.padInfos.getColor (note));
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
+            this.padInfos.setBlinking (note, this.padInfos.getBlinkColor (note) > 0);
         }
 
         // Toggle blink colors every 600ms
         if (!this.checkBlinking ())
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        for (int note = this.padInfos.nextBlinking (0); note >= 0; note = this.padInfos.nextBlinking (note + 1))
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
+            final int colorIndex = this.isBlink ? this.padInfos.getBlinkColor (note) : this.padInfos.getColor (note);
             this.output.sendNoteEx (channel, note, colorIndex);
         }
     }
@@ -12,9 +12,13 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.GridStep;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * The edit note mode.
@@ -43,6 +47,8 @@ public class EditNoteMode extends BaseMode
     private int             step      = 0;
     private int             note      = 60;
 
+    private final List<GridStep> notes = new ArrayList<> ();
+
 
     /**
      * Constructor.
@@ -69,10 +75,42 @@ public class EditNoteMode extends BaseMode
      */
     public void setValues (final INoteClip clip, final int channel, final int step, final int note)
     {
+        this.clip = null;
+        this.notes.clear ();
+        this.addValues (clip, channel, step, note);
+    }
+
+
+    /**
+     * Add a note to the edited notes, e.g. to edit all notes of a chord at the same time. The
+     * display shows the values of the added note. If the note is in a different clip than the
+     * other edited notes, it replaces them. Nothing is added if the clip is null.
+     *
+     * @param clip The clip to edit
+     * @param channel The MIDI channel
+     * @param step The step to edit
+     * @param note The note to edit
+     */
+    public void addValues (final INoteClip clip, final int channel, final int step, final int note)
+    {
+        if (clip == null)
+            return;
+        if (clip != this.clip)
+            this.notes.clear ();
+
         this.clip = clip;
         this.channel = channel;
         this.step = step;
         this.note = note;
+
+        for (final GridStep gridStep: this.notes)
+        {
+            if (gridStep.getChannel () == channel && gridStep.getStep () == step && gridStep.getNote () == note)
+                return;
+        }
+        final GridStep gridStep = new GridStep ();
+        gridStep.set (clip, channel, step, note);
+        this.notes.add (gridStep);
     }
 
 
@@ -91,13 +129,15 @@ public class EditNoteMode extends BaseMode
         switch (idx)
         {
             case DURATION:
-                this.clip.changeStepDuration (this.channel, this.step, this.note, value);
+                for (final GridStep gridStep: this.notes)
+                    this.clip.changeStepDuration (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 if (!hasMCUDisplay)
                     this.mvHelper.delayDisplay ( () -> "Duration: " + StringUtils.formatMeasures (this.model.getTransport ().getQuartersPerMeasure (), stepInfo.getDuration (), 0, true));
                 break;
 
             case VELOCITY:
-                this.clip.changeStepVelocity (this.channel, this.step, this.note, value);
+                for (final GridStep gridStep: this.notes)
+                    this.clip.changeStepVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                 if (!hasMCUDisplay)
                     this.mvHelper.delayDisplay ( () -> "Velocity: " + StringUtils.formatPercentage (stepInfo.getVelocity ()));
                 break;
@@ -105,7 +145,8 @@ public class EditNoteMode extends BaseMode
             case GAIN:
                 if (this.host.supports (Capability.NOTE_EDIT_GAIN))
                 {
-                    this.clip.changeStepGain (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepGain (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                     if (!hasMCUDisplay)
                         this.mvHelper.delayDisplay ( () -> "Gain: " + StringUtils.formatPercentage (stepInfo.getGain ()));
                 }
@@ -114,7 +155,8 @@ public class EditNoteMode extends BaseMode
             case PANORAMA:
                 if (this.host.supports (Capability.NOTE_EDIT_PANORAMA))
                 {
-                    this.clip.changeStepPan (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepPan (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                     if (!hasMCUDisplay)
                         this.mvHelper.delayDisplay ( () -> "Panorama: " + StringUtils.formatPercentage (stepInfo.getPan () * 2.0 - 1.0));
                 }
@@ -123,7 +165,8 @@ public class EditNoteMode extends BaseMode
             case TRANSPOSE:
                 if (this.host.supports (Capability.NOTE_EDIT_TRANSPOSE))
                 {
-                    this.clip.changeStepTranspose (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepTranspose (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                     if (!hasMCUDisplay)
                         this.mvHelper.delayDisplay ( () -> "Pitch: " + String.format ("%.1f", Double.valueOf (stepInfo.getTranspose () * 48.0 - 24.0)));
                 }
@@ -132,7 +175,8 @@ public class EditNoteMode extends BaseMode
             case PRESSURE:
                 if (this.host.supports (Capability.NOTE_EDIT_PRESSURE))
                 {
-                    this.clip.changeStepPressure (this.channel, this.step, this.note, value);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.changeStepPressure (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), value);
                     if (!hasMCUDisplay)
                         this.mvHelper.delayDisplay ( () -> "Pressure: " + StringUtils.formatPercentage (stepInfo.getPressure ()));
                 }
@@ -158,31 +202,37 @@ public class EditNoteMode extends BaseMode
             switch (idx)
             {
                 case DURATION:
-                    this.clip.updateStepDuration (this.channel, this.step, this.note, 1.0);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.updateStepDuration (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 1.0);
                     break;
 
                 case VELOCITY:
-                    this.clip.updateStepVelocity (this.channel, this.step, this.note, 1.0);
+                    for (final GridStep gridStep: this.notes)
+                        this.clip.updateStepVelocity (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 1.0);
                     break;
 
                 case GAIN:
                     if (this.host.supports (Capability.NOTE_EDIT_GAIN))
-                        this.clip.updateStepGain (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepGain (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case PANORAMA:
                     if (this.host.supports (Capability.NOTE_EDIT_PANORAMA))
-                        this.clip.updateStepPan (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepPan (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case TRANSPOSE:
                     if (this.host.supports (Capability.NOTE_EDIT_TRANSPOSE))
-                        this.clip.updateStepTranspose (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepTranspose (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 case PRESSURE:
                     if (this.host.supports (Capability.NOTE_EDIT_PRESSURE))
-                        this.clip.updateStepPressure (this.channel, this.step, this.note, 0);
+                        for (final GridStep gridStep: this.notes)
+                            this.clip.updateStepPressure (gridStep.getChannel (), gridStep.getStep (), gridStep.getNote (), 0);
                     break;
 
                 default:
@@ -192,7 +242,7 @@ public class EditNoteMode extends BaseMode
         }
 
         if (isTouched)
-            this.clip.startEdit (this.channel, this.step, this.note);
+            this.clip.startEdit (this.notes);
         else
             this.clip.stopEdit ();
     }
@@ -9,7 +9,6 @@ import de.mossgrabers.controller.ni.maschine.controller.MaschineColorManager;
 import de.mossgrabers.controller.ni.maschine.controller.MaschineControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -139,7 +138,7 @@ public class ClipView extends BaseView
                 else if (item.isStopQueued ())
                     padGrid.lightEx (x, y, MaschineColorManager.COLOR_GREEN_LO);
                 else
-                    padGrid.lightEx (x, y, DAWColor.getColorIndex (item.getColor ()));
+                    padGrid.lightEx (x, y, item.getColorIndex ());
             }
             else
                 padGrid.lightEx (x, y, AbstractFeatureGroup.BUTTON_COLOR_OFF);
@@ -8,7 +8,6 @@ import de.mossgrabers.controller.ni.maschine.controller.MaschineColorManager;
 import de.mossgrabers.controller.ni.maschine.controller.MaschineControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
@@ -70,7 +69,7 @@ public class MuteView extends BaseView
             final int y = 3 - i / 4;
             if (item.doesExist ())
             {
-                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getColorIndex (item.getColor ()));
+                final int colorIndex = this.colorManager.getColorIndex (item.getColorIndex ());
                 if (item.isMute ())
                     padGrid.lightEx (x, y, colorIndex, MaschineColorManager.COLOR_GREY, false);
                 else
@@ -404,7 +404,12 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
         {
             final int isSet = clip.getStep (channel, step, note).getState ();
             this.model.getHost ().showNotification ("Note " + Scales.formatNoteAndOctave (note, -3) + " - Step " + Integer.toString (step + 1));
-            ((EditNoteMode) modeManager.get (Modes.NOTE)).setValues (isSet == IStepInfo.NOTE_START ? clip : null, channel, step, note);
+            final EditNoteMode editNoteMode = (EditNoteMode) modeManager.get (Modes.NOTE);
+            // Add the note with Shift to edit several notes at the same time
+            if (this.surface.isShiftPressed ())
+                editNoteMode.addValues (isSet == IStepInfo.NOTE_START ? clip : null, channel, step, note);
+            else
+                editNoteMode.setValues (isSet == IStepInfo.NOTE_START ? clip : null, channel, step, note);
             return true;
         }
 
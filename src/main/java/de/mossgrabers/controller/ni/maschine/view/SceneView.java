@@ -8,7 +8,6 @@ import de.mossgrabers.controller.ni.maschine.controller.MaschineColorManager;
 import de.mossgrabers.controller.ni.maschine.controller.MaschineControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
@@ -75,7 +74,7 @@ public class SceneView extends BaseView
                 if (item.isSelected ())
                     padGrid.lightEx (x, y, MaschineColorManager.COLOR_WHITE);
                 else
-                    padGrid.lightEx (x, y, DAWColor.getColorIndex (item.getColor ()));
+                    padGrid.lightEx (x, y, item.getColorIndex ());
             }
             else
                 padGrid.lightEx (x, y, AbstractFeatureGroup.BUTTON_COLOR_OFF);
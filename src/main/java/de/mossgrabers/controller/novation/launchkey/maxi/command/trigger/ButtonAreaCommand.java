@@ -11,7 +11,6 @@ import de.mossgrabers.framework.command.core.AbstractTriggerCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.command.trigger.track.RecArmCommand;
 import de.mossgrabers.framework.command.trigger.track.SelectCommand;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
@@ -74,7 +73,7 @@ public class ButtonAreaCommand extends AbstractTriggerCommand<LaunchkeyMk3Contro
         if (!t.doesExist ())
             color = LaunchkeyMk3ColorManager.LAUNCHKEY_COLOR_BLACK;
         else if (isSelect)
-            color = this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (t.getColor ()));
+            color = this.model.getColorManager ().getColorIndex (t.getColorIndex ());
         else
             color = t.isRecArm () ? LaunchkeyMk3ColorManager.LAUNCHKEY_COLOR_RED : LaunchkeyMk3ColorManager.LAUNCHKEY_COLOR_GREY_LO;
         return t.isSelected () ? 0x1000 + color : color;
@@ -9,9 +9,6 @@ import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.HashMap;
-import java.util.Map;
-
 
 /**
  * Implementation of the Launchkey grid of pads.
@@ -40,22 +37,28 @@ public class LaunchkeyPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_MAP_DRUM          = new HashMap<> (16);
-    private static final Map<Integer, Integer> INVERSE_MAP_SESSION       = new HashMap<> (16);
-    private static final Map<Integer, Integer> INVERSE_MAP_DEVICE_SELECT = new HashMap<> (16);
+    private static final int []   INVERSE_MAP_DRUM           = createInverseTranslations (MAP_DRUM, 36);
+    private static final int []   INVERSE_MAP_SESSION        = createInverseTranslations (MAP_SESSION, 36);
+    private static final int []   INVERSE_MAP_DEVICE_SELECT  = createInverseTranslations (MAP_DEVICE_SELECT, 36);
+
+    private static final int [][] TRANSLATIONS_DRUM          = createTranslations (9, MAP_DRUM);
+    private static final int [][] TRANSLATIONS_SESSION       = createTranslations (0, MAP_SESSION);
+    private static final int [][] TRANSLATIONS_DEVICE_SELECT = createTranslations (0, MAP_DEVICE_SELECT);
+    private static final int [][] TRANSLATIONS_IDENTITY      = new int [NUM_NOTES][];
 
     static
     {
-        for (int i = 0; i < 16; i++)
+        for (int i = 0; i < NUM_NOTES; i++)
         {
-            final Integer note = Integer.valueOf (36 + i);
-            INVERSE_MAP_DRUM.put (Integer.valueOf (MAP_DRUM[i]), note);
-            INVERSE_MAP_SESSION.put (Integer.valueOf (MAP_SESSION[i]), note);
-            INVERSE_MAP_DEVICE_SELECT.put (Integer.valueOf (MAP_DEVICE_SELECT[i]), note);
+            TRANSLATIONS_IDENTITY[i] = new int []
+            {
+                0,
+                i
+            };
         }
     }
 
-    private Views activeView;
+    private Views                 activeView;
 
 
     /**
@@ -77,25 +80,24 @@ public class LaunchkeyPadGrid extends PadGridImpl
         if (this.activeView == null)
             return note;
 
-        final Integer n = Integer.valueOf (note);
-        Integer inverse;
+        final int inverse;
         switch (this.activeView)
         {
             case DRUM:
-                inverse = INVERSE_MAP_DRUM.get (n);
+                inverse = INVERSE_MAP_DRUM[note];
                 break;
 
             case DEVICE:
-                inverse = INVERSE_MAP_DEVICE_SELECT.get (n);
+                inverse = INVERSE_MAP_DEVICE_SELECT[note];
                 break;
 
             default:
             case SESSION:
-                inverse = INVERSE_MAP_SESSION.get (n);
+                inverse = INVERSE_MAP_SESSION[note];
                 break;
         }
 
-        return inverse == null ? note : inverse.intValue ();
+        return inverse < 0 ? note : inverse;
     }
 
 
@@ -112,38 +114,27 @@ public class LaunchkeyPadGrid extends PadGridImpl
      *
      * @param view The view
      * @param note The outgoing note
-     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller
+     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller, the array is
+     *         shared and must not be modified
      */
     public static int [] translateToController (final Views view, final int note)
     {
         if (view == null)
-            return new int []
-            {
-                0,
-                note
-            };
+            return TRANSLATIONS_IDENTITY[note];
 
-        final int [] result = new int [2];
         final int n = note - 36;
         switch (view)
         {
             case DRUM:
-                result[0] = 9;
-                result[1] = MAP_DRUM[n];
-                break;
+                return TRANSLATIONS_DRUM[n];
 
             case DEVICE:
-                result[0] = 0;
-                result[1] = MAP_DEVICE_SELECT[n];
-                break;
+                return TRANSLATIONS_DEVICE_SELECT[n];
 
             default:
             case SESSION:
-                result[0] = 0;
-                result[1] = MAP_SESSION[n];
-                break;
+                return TRANSLATIONS_SESSION[n];
         }
-        return result;
     }
 
 
@@ -9,7 +9,6 @@ import de.mossgrabers.controller.novation.launchkey.maxi.controller.LaunchkeyMk3
 import de.mossgrabers.controller.novation.launchkey.maxi.controller.LaunchkeyMk3ControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
@@ -137,7 +136,7 @@ public class DrumView extends AbstractDrumView<LaunchkeyMk3ControlSurface, Launc
         if (!drumPad.doesExist () || !drumPad.isActivated ())
             return LaunchkeyMk3ColorManager.LAUNCHKEY_COLOR_BLACK;
 
-        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getColorIndex (drumPad.getColorIndex ());
     }
 
 
@@ -33,7 +33,10 @@ public class LaunchkeyPadGrid extends PadGridImpl
 
     // @formatter:on
 
-    private Views               activeView;
+    private static final int [][] TRANSLATIONS_DRUM    = createTranslations (9, MAP_DRUM);
+    private static final int [][] TRANSLATIONS_SESSION = createTranslations (0, MAP_SESSION);
+
+    private Views                 activeView;
 
 
     /**
@@ -93,22 +96,14 @@ public class LaunchkeyPadGrid extends PadGridImpl
      *
      * @param view The view
      * @param note The outgoing note
-     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller
+     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller, the array is
+     *         shared and must not be modified
      */
     public static int [] translateToController (final Views view, final int note)
     {
-        final int [] result = new int [2];
         if (view == null || view == Views.SESSION)
-        {
-            result[0] = 0;
-            result[1] = MAP_SESSION[note - 36];
-        }
-        else
-        {
-            result[0] = 9;
-            result[1] = MAP_DRUM[note - 36];
-        }
-        return result;
+            return TRANSLATIONS_SESSION[note - 36];
+        return TRANSLATIONS_DRUM[note - 36];
     }
 
 
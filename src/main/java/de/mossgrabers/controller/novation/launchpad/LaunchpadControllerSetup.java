@@ -379,7 +379,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         surface.createLight (OutputID.LED1, () -> {
 
             final ITrack cursorTrack = this.model.getCursorTrack ();
-            return cursorTrack.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (cursorTrack.getColor ())) : 0;
+            return cursorTrack.doesExist () ? this.colorManager.getColorIndex (cursorTrack.getColorIndex ()) : 0;
 
         }, color -> this.definition.setLogoColor (surface, color), state -> this.colorManager.getColor (state, null), null);
 
@@ -502,7 +502,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         if (modeManager.isActive (Modes.STOP_CLIP))
             return surface.isPressed (ButtonID.get (ButtonID.PAD1, index)) ? LaunchpadColorManager.LAUNCHPAD_COLOR_RED : LaunchpadColorManager.LAUNCHPAD_COLOR_ROSE;
 
-        return this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+        return this.colorManager.getColorIndex (track.getColorIndex ());
     }
 
 
@@ -6,14 +6,10 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadStateStore;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 
 /**
  * Implementation of the Launchpad grid of pads.
@@ -36,15 +32,11 @@ public class LaunchpadPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
-    static
-    {
-        for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
-    }
+    private static final int []                  INVERSE_TRANSLATE_MATRIX = createInverseTranslations (TRANSLATE_MATRIX, 36);
+    private static final int [][]                TRANSLATIONS             = createTranslations (0, TRANSLATE_MATRIX);
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final PadStateStore                  padInfos                 = new PadStateStore ();
 
 
     /**
@@ -66,8 +58,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note >= 0 && note < INVERSE_TRANSLATE_MATRIX.length ? INVERSE_TRANSLATE_MATRIX[note] : -1;
     }
 
 
@@ -76,11 +67,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     public int [] translateToController (final int note)
     {
         // Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-        return new int []
-        {
-            0,
-            TRANSLATE_MATRIX[note - 36]
-        };
+        return TRANSLATIONS[note - 36];
     }
 
 
@@ -91,11 +78,11 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            if (this.padInfos.isEmpty ())
+            if (!this.padInfos.hasChanges ())
                 return;
             for (final String update: this.definition.buildLEDUpdate (this.padInfos))
                 this.output.sendSysex (update);
-            this.padInfos.clear ();
+            this.padInfos.clearChanges ();
         }
     }
 
@@ -106,7 +93,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.padInfos.setColor (note, color);
         }
     }
 
@@ -117,9 +104,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.padInfos.setBlinkColor (note, blinkColor, fast);
         }
     }
 }
\ No newline at end of file
@@ -8,13 +8,11 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateStore;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -110,32 +108,29 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<String> buildLEDUpdate (final PadStateStore padInfos)
     {
         final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int note = padInfos.nextChange (0); note >= 0; note = padInfos.nextChange (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            if (info.getBlinkColor () <= 0)
+            if (padInfos.getBlinkColor (note) <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (padInfos.getColor (note))).append (' ');
             }
             else
             {
-                if (info.isFast ())
+                if (padInfos.isFast (note))
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (padInfos.getBlinkColor (note))).append (' ').append (StringUtils.toHexStr (padInfos.getColor (note))).append (' ');
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (padInfos.getColor (note))).append (' ');
                 }
             }
         }
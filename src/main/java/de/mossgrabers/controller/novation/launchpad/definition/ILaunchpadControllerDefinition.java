@@ -6,10 +6,9 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateStore;
 
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -98,5 +97,5 @@ public interface ILaunchpadControllerDefinition
      * @param padInfos The info how to update the pads
      * @return The system exclusive string
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    List<String> buildLEDUpdate (PadStateStore padInfos);
 }
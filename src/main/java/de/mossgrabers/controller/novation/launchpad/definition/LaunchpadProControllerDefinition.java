@@ -6,15 +6,13 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateStore;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -144,25 +142,22 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<String> buildLEDUpdate (final PadStateStore padInfos)
     {
         final StringBuilder sbNormal = new StringBuilder ();
         final StringBuilder sbFlash = new StringBuilder ();
         final StringBuilder sbPulse = new StringBuilder ();
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int note = padInfos.nextChange (0); note >= 0; note = padInfos.nextChange (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (padInfos.getColor (note))).append (' ');
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-
-            if (info.getBlinkColor () > 0)
+            if (padInfos.getBlinkColor (note) > 0)
             {
-                if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                if (padInfos.isFast (note))
+                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (padInfos.getBlinkColor (note))).append (' ');
                 else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (padInfos.getBlinkColor (note))).append (' ');
             }
         }
 
@@ -13,7 +13,6 @@ import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
 import de.mossgrabers.framework.controller.grid.IVirtualFaderCallback;
 import de.mossgrabers.framework.controller.grid.VirtualFaderImpl;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -75,7 +74,7 @@ public class MixView extends AbstractView<LaunchpadControlSurface, LaunchpadConf
                 final boolean hasSends = track.getSendBank ().getItemCount () > 0;
 
                 // Volume
-                padGrid.light (92 + i, this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())));
+                padGrid.light (92 + i, this.colorManager.getColorIndex (track.getColorIndex ()));
                 // Panorama
                 padGrid.light (84 + i, isSelected ? LaunchpadColorManager.LAUNCHPAD_COLOR_SKY_HI : LaunchpadColorManager.LAUNCHPAD_COLOR_GREY_LO);
                 // Send 1
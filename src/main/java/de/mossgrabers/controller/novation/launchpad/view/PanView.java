@@ -9,7 +9,6 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
 import de.mossgrabers.framework.controller.grid.IVirtualFaderCallback;
 import de.mossgrabers.framework.controller.grid.VirtualFaderImpl;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -70,7 +69,7 @@ public class PanView extends AbstractFaderView implements IVirtualFaderCallback
     public void setupFader (final int index)
     {
         final ITrack track = this.model.getCurrentTrackBank ().getItem (index);
-        final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+        final int color = track.doesExist () ? this.colorManager.getColorIndex (track.getColorIndex ()) : 0;
         this.surface.setupFader (index, color, true);
         this.surface.setFaderValue (index, track.getPan ());
     }
@@ -82,7 +81,7 @@ public class PanView extends AbstractFaderView implements IVirtualFaderCallback
     {
         final IMasterTrack track = this.model.getMasterTrack ();
 
-        final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+        final int color = track.doesExist () ? this.colorManager.getColorIndex (track.getColorIndex ()) : 0;
         this.masterFader.setup (color, true);
         this.masterFader.setValue (track.getPan ());
 
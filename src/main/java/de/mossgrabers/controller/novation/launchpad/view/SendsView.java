@@ -7,7 +7,6 @@ package de.mossgrabers.controller.novation.launchpad.view;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadColorManager;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -118,7 +117,7 @@ public class SendsView extends AbstractFaderView
     public void setupFader (final int index)
     {
         final ITrack track = this.model.getCurrentTrackBank ().getItem (index);
-        final int color = this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+        final int color = this.colorManager.getColorIndex (track.getColorIndex ());
         this.surface.setupFader (index, color, false);
 
         final ISend send = track.getSendBank ().getItem (this.selectedSend);
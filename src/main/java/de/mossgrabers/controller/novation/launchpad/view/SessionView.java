@@ -11,7 +11,6 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -178,7 +177,7 @@ public class SessionView extends AbstractSessionView<LaunchpadControlSurface, La
             final IScene s = sceneBank.getItem (index);
 
             if (s.doesExist ())
-                return DAWColor.getColorIndex (s.getColor ());
+                return s.getColorIndex ();
         }
 
         return AbstractFeatureGroup.BUTTON_COLOR_OFF;
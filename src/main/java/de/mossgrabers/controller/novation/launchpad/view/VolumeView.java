@@ -9,7 +9,6 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
 import de.mossgrabers.framework.controller.grid.IVirtualFaderCallback;
 import de.mossgrabers.framework.controller.grid.VirtualFaderImpl;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -71,7 +70,7 @@ public class VolumeView extends AbstractFaderView implements IVirtualFaderCallba
     {
         final IMasterTrack track = this.model.getMasterTrack ();
 
-        final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+        final int color = track.doesExist () ? this.colorManager.getColorIndex (track.getColorIndex ()) : 0;
         this.masterFader.setup (color, false);
         this.masterFader.setValue (track.getVolume ());
 
@@ -96,7 +95,7 @@ public class VolumeView extends AbstractFaderView implements IVirtualFaderCallba
     public void setupFader (final int index)
     {
         final ITrack track = this.model.getCurrentTrackBank ().getItem (index);
-        final int color = this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+        final int color = this.colorManager.getColorIndex (track.getColorIndex ());
         this.surface.setupFader (index, color, false);
         this.surface.setFaderValue (index, track.getVolume ());
     }
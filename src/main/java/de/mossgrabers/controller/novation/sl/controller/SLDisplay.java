@@ -32,6 +32,19 @@ public class SLDisplay extends AbstractTextDisplay
         3
     };
 
+    /** Each cell has 8 characters and a space. */
+    private static final int []  CELL_WIDTHS =
+    {
+        9,
+        9,
+        9,
+        9,
+        9,
+        9,
+        9,
+        9
+    };
+
     private final IHwTextDisplay hwTextDisplay1;
     private final IHwTextDisplay hwTextDisplay2;
 
@@ -47,7 +60,7 @@ public class SLDisplay extends AbstractTextDisplay
      */
     public SLDisplay (final IHost host, final IMidiOutput output, final IHwTextDisplay hwTextDisplay1, final IHwTextDisplay hwTextDisplay2)
     {
-        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 8 * 8);
+        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 8 * 8, CELL_WIDTHS);
 
         this.hwTextDisplay1 = hwTextDisplay1;
         this.hwTextDisplay2 = hwTextDisplay2;
@@ -71,30 +84,13 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public ITextDisplay clearCell (final int row, final int column)
-    {
-        this.cells[row * this.noOfCells + column] = "         ";
-        return this;
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
         final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8) + " ";
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
+        this.writeCell (row, cell, value, 0, 9);
+        this.writeCell (row, cell + 1, value, 9, 8);
         return this;
     }
 
@@ -105,7 +101,7 @@ public class SLDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, 8) + " ";
+            this.writeCell (row, column, value, 0, 8);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -16,6 +16,20 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class SLMkIIIPadGrid extends PadGridImpl
 {
+    private static final int [][] TRANSLATIONS = new int [NUM_NOTES][];
+    static
+    {
+        for (int note = 0; note < NUM_NOTES; note++)
+        {
+            TRANSLATIONS[note] = new int []
+            {
+                15,
+                note > 43 ? note + 52 : note + 76
+            };
+        }
+    }
+
+
     /**
      * Constructor.
      *
@@ -45,17 +59,7 @@ public class SLMkIIIPadGrid extends PadGridImpl
     @Override
     public int [] translateToController (final int note)
     {
-        if (note > 43)
-            return new int []
-            {
-                15,
-                note + 52
-            };
-        return new int []
-        {
-            15,
-            note + 76
-        };
+        return TRANSLATIONS[note];
     }
 
 
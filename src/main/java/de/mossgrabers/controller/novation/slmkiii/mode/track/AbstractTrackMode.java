@@ -9,7 +9,6 @@ import de.mossgrabers.controller.novation.slmkiii.controller.SLMkIIIControlSurfa
 import de.mossgrabers.controller.novation.slmkiii.controller.SLMkIIIDisplay;
 import de.mossgrabers.controller.novation.slmkiii.mode.BaseMode;
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
@@ -229,7 +228,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
         {
             if (t.isSelected ())
             {
-                final String colorIndex = DAWColor.getColorIndex (t.getColor ());
+                final String colorIndex = t.getColorIndex ();
                 return this.model.getColorManager ().getColorIndex (colorIndex);
             }
             return SLMkIIIColorManager.SLMKIII_WHITE_HALF;
@@ -277,7 +276,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
             int color;
             if (t.isActivated ())
             {
-                final String colorIndex = DAWColor.getColorIndex (t.getColor ());
+                final String colorIndex = t.getColorIndex ();
                 color = this.model.getColorManager ().getColorIndex (colorIndex);
             }
             else
@@ -344,7 +343,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
         {
             if (track.isActivated ())
             {
-                final String colorIndex = DAWColor.getColorIndex (track.getColor ());
+                final String colorIndex = track.getColorIndex ();
                 color = this.model.getColorManager ().getColorIndex (colorIndex);
             }
             else
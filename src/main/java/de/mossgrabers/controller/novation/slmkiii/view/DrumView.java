@@ -9,7 +9,6 @@ import de.mossgrabers.controller.novation.slmkiii.controller.SLMkIIIColorManager
 import de.mossgrabers.controller.novation.slmkiii.controller.SLMkIIIControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.data.IChannel;
@@ -139,7 +138,7 @@ public class DrumView extends AbstractDrumView<SLMkIIIControlSurface, SLMkIIICon
         if (!drumPad.doesExist () || !drumPad.isActivated ())
             return SLMkIIIColorManager.SLMKIII_BLACK;
 
-        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getColorIndex (drumPad.getColorIndex ());
     }
 
 
@@ -50,6 +50,7 @@ import java.util.List;
 public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<OSCConfiguration>, OSCConfiguration>
 {
     private OSCWriter               writer;
+    private OSCParser               parser;
     private KeyManager              keyManager;
     private IOpenSoundControlServer oscServer;
 
@@ -76,6 +77,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        this.parser.applyPendingValues ();
         this.writer.flush (false);
     }
 
@@ -186,7 +188,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
 
         // Receive OSC messages
-        final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
+        this.parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
 
         final List<IModule> modules = new ArrayList<> ();
         modules.add (new TransportModule (this.host, this.model, surface, this.writer));
@@ -205,10 +207,10 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
 
         modules.forEach (module -> {
             this.writer.registerModule (module);
-            parser.registerModule (module);
+            this.parser.registerModule (module);
         });
 
-        this.oscServer = this.host.createOSCServer (parser);
+        this.oscServer = this.host.createOSCServer (this.parser);
     }
 
 
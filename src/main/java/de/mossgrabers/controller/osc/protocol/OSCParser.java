@@ -11,6 +11,12 @@ import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.data.ICursorDevice;
+import de.mossgrabers.framework.daw.data.ICursorTrack;
+import de.mossgrabers.framework.daw.data.ISpecificDevice;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
@@ -21,8 +27,10 @@ import de.mossgrabers.framework.utils.KeyManager;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -32,8 +40,16 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    /** The last part of the addresses of commands which set a continuous value. */
+    private static final Set<String>                    CONTINUOUS_COMMANDS = Set.of ("volume", "pan", "value", "gain", "freq", "q", "crossfade", "raw");
+    private static final String                         SELECTED_TRACK      = "/track/selected/";
+    private static final String                         PRIMARY_PARAM       = "/primary/param/";
+
+    private final OSCControlSurface                     surface;
+    private final Map<String, IModule>                  modules             = new HashMap<> ();
+    private final Map<String, IOpenSoundControlMessage> pendingValues       = new LinkedHashMap<> ();
+    private long                                        receivedMessages    = 0;
+    private long                                        appliedMessages     = 0;
 
 
     /**
@@ -63,6 +79,83 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void handle (final IOpenSoundControlMessage message)
     {
         this.logMessage (message);
+        this.receivedMessages++;
+
+        // Only the latest value of a continuous control is applied with the next flush. All
+        // pending values are applied before any other command to keep the order
+        if (isContinuousValue (message))
+        {
+            final String address = this.resolveAddress (message.getAddress ());
+            // Remove it first to apply the values in the order of their latest change
+            this.pendingValues.remove (address);
+            this.pendingValues.put (address, address.equals (message.getAddress ()) ? message : this.host.createOSCMessage (address, Arrays.asList (message.getValues ())));
+            return;
+        }
+
+        this.applyPendingValues ();
+        this.execute (message);
+    }
+
+
+    /**
+     * Apply the latest values of all continuous controls which were received since the last call.
+     * Needs to be called on each flush of the host.
+     */
+    public void applyPendingValues ()
+    {
+        if (this.pendingValues.isEmpty ())
+            return;
+        final IOpenSoundControlMessage [] messages = this.pendingValues.values ().toArray (new IOpenSoundControlMessage [this.pendingValues.size ()]);
+        this.pendingValues.clear ();
+        for (final IOpenSoundControlMessage message: messages)
+            this.execute (message);
+
+        if (this.configuration.shouldLogInputCommands ())
+            this.host.println ("Applied " + messages.length + " pending values (" + this.appliedMessages + " of " + this.receivedMessages + " received messages applied)");
+    }
+
+
+    /**
+     * Get the address of the control which a continuous value changes. The selected track is
+     * mapped to its track in the current bank page and the parameters of the primary device to the
+     * ones of the cursor device if they are the same, so that values sent to both addresses are
+     * coalesced.
+     *
+     * @param address The address of the message
+     * @return The resolved address
+     */
+    private String resolveAddress (final String address)
+    {
+        if (address.startsWith (SELECTED_TRACK))
+        {
+            final ICursorTrack cursorTrack = this.model.getCursorTrack ();
+            if (!cursorTrack.doesExist () || this.model.isEffectTrackBankActive ())
+                return address;
+            final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+            for (int i = 0; i < trackBank.getPageSize (); i++)
+            {
+                final ITrack track = trackBank.getItem (i);
+                if (track.doesExist () && track.getPosition () == cursorTrack.getPosition ())
+                    return "/track/" + (i + 1) + "/" + address.substring (SELECTED_TRACK.length ());
+            }
+            return address;
+        }
+
+        if (address.startsWith (PRIMARY_PARAM))
+        {
+            final ISpecificDevice primaryDevice = this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT);
+            final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+            if (primaryDevice != null && primaryDevice.doesExist () && cursorDevice.doesExist () && primaryDevice.getPosition () == cursorDevice.getPosition () && primaryDevice.getParameterBank ().getScrollPosition () == cursorDevice.getParameterBank ().getScrollPosition ())
+                return "/device/param/" + address.substring (PRIMARY_PARAM.length ());
+        }
+
+        return address;
+    }
+
+
+    private void execute (final IOpenSoundControlMessage message)
+    {
+        this.appliedMessages++;
 
         final LinkedList<String> oscParts = parseAddress (message);
         if (oscParts.isEmpty ())
@@ -101,6 +194,23 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Test if the message sets the value of a continuous control, e.g. a volume, panorama or
+     * parameter value.
+     *
+     * @param message The message
+     * @return True if it is a single numeric value for a continuous control
+     */
+    private static boolean isContinuousValue (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        if (values == null || values.length != 1 || !(values[0] instanceof Number))
+            return false;
+        final String address = message.getAddress ();
+        return CONTINUOUS_COMMANDS.contains (address.substring (address.lastIndexOf ('/') + 1));
+    }
+
+
     /**
      * Parses the OSC message into seprate parts.
      *
@@ -9,10 +9,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 
 /**
@@ -25,9 +22,11 @@ import java.util.regex.Pattern;
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
+    private static final DAWColor []     COLORS  = DAWColor.values ();
+
+    private final KeywordMatcher         matcher = new KeywordMatcher ();
+    private final AutoColorConfiguration configuration;
+    private ITrackBank                   trackBank;
 
 
     /**
@@ -52,18 +51,15 @@ public class AutoColor
         if (!this.configuration.isEnableAutoColor ())
             return;
 
-        final List<Pattern> patterns = new ArrayList<> ();
+        final List<String> keywords = new ArrayList<> ();
         if (filter != null && !filter.trim ().isEmpty ())
         {
             for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
-        }
-        synchronized (this.colorRegex)
-        {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+                keywords.add (part.trim ());
         }
+        this.matcher.setKeywords (color.ordinal (), keywords);
+        if (!keywords.isEmpty ())
+            this.updateTracks (color);
     }
 
 
@@ -84,20 +80,22 @@ public class AutoColor
      * Updates all tracks (in the page) for a color.
      *
      * @param color The color to match for
-     * @param patterns The patterns to match
      */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
+    private void updateTracks (final DAWColor color)
     {
+        final long colorBit = 1L << color.ordinal ();
         for (int i = 0; i < this.trackBank.getPageSize (); i++)
         {
             final ITrack track = this.trackBank.getItem (i);
-            matchColorToTrack (track, track.getName (), color, patterns);
+            if ((this.matcher.match (track.getName ()) & colorBit) != 0)
+                track.setColor (color.getColor ());
         }
     }
 
 
     /**
-     * Tests a track against all color patterns.
+     * Tests a track against the substrings of all colors. If several colors match, the last one in
+     * the order of the colors is applied.
      *
      * @param track The track to test
      * @param trackName The name of the track (the track name of the track might not yet beend
@@ -105,34 +103,9 @@ public class AutoColor
      */
     private void matchColorsToTrack (final ITrack track, final String trackName)
     {
-        synchronized (this.colorRegex)
-        {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
-        }
-    }
-
-
-    /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
-     *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
-     *            updated)
-     * @param color The color to apply
-     * @param patterns The pattern to test against
-     */
-    private static void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
-    {
-        for (final Pattern pattern: patterns)
-        {
-            if (pattern.matcher (trackName).matches ())
-            {
-                track.setColor (color.getColor ());
-                break;
-            }
-        }
+        final long matches = this.matcher.match (trackName);
+        if (matches != 0)
+            track.setColor (COLORS[63 - Long.numberOfLeadingZeros (matches)].getColor ());
     }
 
 
@@ -0,0 +1,220 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.autocolor;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Finds all keywords contained in a text with a single pass over the text (Aho-Corasick). Each
+ * keyword belongs to a group (0-63) and the result of a match is a bit mask of all groups which
+ * have at least one keyword contained in the text. The keywords of a group can be exchanged at any
+ * time. Only the branches of the keyword tree of the changed group are updated, the failure links
+ * are re-calculated before the next match.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class KeywordMatcher
+{
+    /** The maximum number of groups. */
+    public static final int   MAX_GROUPS = 64;
+
+    private final Node        root       = new Node ();
+    private final String [][] keywords   = new String [MAX_GROUPS][];
+    private boolean           isDirty    = false;
+
+
+    /**
+     * Constructor.
+     */
+    public KeywordMatcher ()
+    {
+        Arrays.fill (this.keywords, new String [0]);
+    }
+
+
+    /**
+     * Set the keywords of a group. Replaces all previous keywords of the group. An empty keyword
+     * is contained in every text.
+     *
+     * @param group The index of the group (0-63)
+     * @param groupKeywords The keywords, an empty list to remove all keywords of the group
+     */
+    public synchronized void setKeywords (final int group, final List<String> groupKeywords)
+    {
+        final long bit = 1L << group;
+
+        for (final String keyword: this.keywords[group])
+            this.removeKeyword (keyword, bit);
+        for (final String keyword: groupKeywords)
+            this.addKeyword (keyword, bit);
+
+        this.keywords[group] = groupKeywords.toArray (new String [groupKeywords.size ()]);
+        this.isDirty = true;
+    }
+
+
+    /**
+     * Find all groups which have at least one keyword contained in the text.
+     *
+     * @param text The text to search
+     * @return The bit mask of the matching groups, bit N is set if group N matches
+     */
+    public synchronized long match (final String text)
+    {
+        if (this.isDirty)
+            this.updateFailureLinks ();
+
+        Node state = this.root;
+        long result = state.output;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            Node next = state.getChild (c);
+            while (next == null && state != this.root)
+            {
+                state = state.fail;
+                next = state.getChild (c);
+            }
+            state = next == null ? this.root : next;
+            result |= state.output;
+        }
+        return result;
+    }
+
+
+    private void addKeyword (final String keyword, final long bit)
+    {
+        Node node = this.root;
+        for (int i = 0; i < keyword.length (); i++)
+        {
+            final char c = keyword.charAt (i);
+            Node child = node.getChild (c);
+            if (child == null)
+                child = node.addChild (c);
+            node = child;
+        }
+        node.keywordGroups |= bit;
+    }
+
+
+    private void removeKeyword (final String keyword, final long bit)
+    {
+        final Node [] path = new Node [keyword.length () + 1];
+        path[0] = this.root;
+        for (int i = 0; i < keyword.length (); i++)
+        {
+            path[i + 1] = path[i].getChild (keyword.charAt (i));
+            // Might have been removed already by a duplicate keyword
+            if (path[i + 1] == null)
+                return;
+        }
+
+        // Remove the leaves which do not end any keyword anymore
+        path[keyword.length ()].keywordGroups &= ~bit;
+        for (int i = keyword.length (); i > 0; i--)
+        {
+            final Node node = path[i];
+            if (node.size > 0 || node.keywordGroups != 0)
+                break;
+            path[i - 1].removeChild (keyword.charAt (i - 1));
+        }
+    }
+
+
+    /**
+     * Re-calculate the failure links and the outputs of all nodes with a breadth first traversal.
+     */
+    private void updateFailureLinks ()
+    {
+        final ArrayDeque<Node> queue = new ArrayDeque<> ();
+
+        this.root.fail = this.root;
+        this.root.output = this.root.keywordGroups;
+        for (int i = 0; i < this.root.size; i++)
+        {
+            final Node child = this.root.children[i];
+            child.fail = this.root;
+            child.output = child.keywordGroups | this.root.output;
+            queue.add (child);
+        }
+
+        while (!queue.isEmpty ())
+        {
+            final Node node = queue.poll ();
+            for (int i = 0; i < node.size; i++)
+            {
+                final char c = node.keys[i];
+                final Node child = node.children[i];
+
+                Node fail = node.fail;
+                Node target = fail.getChild (c);
+                while (target == null && fail != this.root)
+                {
+                    fail = fail.fail;
+                    target = fail.getChild (c);
+                }
+                child.fail = target == null ? this.root : target;
+                child.output = child.keywordGroups | child.fail.output;
+                queue.add (child);
+            }
+        }
+
+        this.isDirty = false;
+    }
+
+
+    /** A node of the keyword tree. */
+    private static class Node
+    {
+        private char [] keys          = new char [0];
+        private Node [] children      = new Node [0];
+        private int     size          = 0;
+
+        private long    keywordGroups = 0;
+        private long    output        = 0;
+        private Node    fail;
+
+
+        Node getChild (final char c)
+        {
+            final int index = Arrays.binarySearch (this.keys, 0, this.size, c);
+            return index < 0 ? null : this.children[index];
+        }
+
+
+        Node addChild (final char c)
+        {
+            final int index = -Arrays.binarySearch (this.keys, 0, this.size, c) - 1;
+            if (this.size == this.keys.length)
+            {
+                this.keys = Arrays.copyOf (this.keys, this.size + 4);
+                this.children = Arrays.copyOf (this.children, this.size + 4);
+            }
+            System.arraycopy (this.keys, index, this.keys, index + 1, this.size - index);
+            System.arraycopy (this.children, index, this.children, index + 1, this.size - index);
+
+            final Node child = new Node ();
+            this.keys[index] = c;
+            this.children[index] = child;
+            this.size++;
+            return child;
+        }
+
+
+        void removeChild (final char c)
+        {
+            final int index = Arrays.binarySearch (this.keys, 0, this.size, c);
+            if (index < 0)
+                return;
+            this.size--;
+            System.arraycopy (this.keys, index + 1, this.keys, index, this.size - index);
+            System.arraycopy (this.children, index + 1, this.children, index, this.size - index);
+            this.children[this.size] = null;
+        }
+    }
+}
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.utilities.midimonitor;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 
@@ -20,8 +21,11 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system real-time. */
     public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    /** Setting for the log file. */
+    public static final Integer LOG_FILE                 = Integer.valueOf (51);
 
     private boolean             isFilterSystemRealtimeOn = false;
+    private volatile String     logFile                  = "";
 
 
     /**
@@ -46,6 +50,13 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
         this.isSettingActive.add (FILTER_SYSTEM_REALTIME);
+
+        final IStringSetting logFileSetting = globalSettings.getStringSetting ("Log file (full path, empty to disable)", "Log", -1, "");
+        logFileSetting.addValueObserver (value -> {
+            this.logFile = value.trim ();
+            this.notifyObservers (LOG_FILE);
+        });
+        this.isSettingActive.add (LOG_FILE);
     }
 
 
@@ -58,4 +69,15 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     {
         return this.isFilterSystemRealtimeOn;
     }
+
+
+    /**
+     * Get the file to which all events are written in addition to the console.
+     *
+     * @return The full path of the file, empty if disabled
+     */
+    public String getLogFile ()
+    {
+        return this.logFile;
+    }
 }
@@ -0,0 +1,40 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+/**
+ * Consumes the events read from a MIDI event ring.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IMidiEventConsumer
+{
+    /**
+     * Handle a short MIDI message.
+     *
+     * @param timestamp The time when the message was received (System.nanoTime)
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void handleMessage (long timestamp, int status, int data1, int data2);
+
+
+    /**
+     * Handle a system exclusive message.
+     *
+     * @param timestamp The time when the message was received (System.nanoTime)
+     * @param data The data bytes formatted as hex string without spaces
+     */
+    void handleSysex (long timestamp, String data);
+
+
+    /**
+     * Called if events were dropped since the ring was full.
+     *
+     * @param count The number of events which were dropped since the last call
+     */
+    void handleDropped (long count);
+}
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A lock-free ring buffer for the raw MIDI events received by the monitor. Events are added by a
+ * single producer (the MIDI input thread) and removed by a single consumer (the formatter). Adding
+ * an event only stores the raw values, if the ring is full the event is dropped and counted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiEventRing
+{
+    private static final int SYSEX   = -1;
+
+    private final int        mask;
+    private final long []    timestamps;
+    private final int []     messages;
+    private final String []  sysex;
+
+    private final AtomicLong head    = new AtomicLong ();
+    private final AtomicLong tail    = new AtomicLong ();
+    private final AtomicLong dropped = new AtomicLong ();
+    private long             reportedDropped;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The number of events which can be stored, must be a power of 2
+     */
+    public MidiEventRing (final int capacity)
+    {
+        if (Integer.bitCount (capacity) != 1)
+            throw new IllegalArgumentException ("The capacity must be a power of 2.");
+
+        this.mask = capacity - 1;
+        this.timestamps = new long [capacity];
+        this.messages = new int [capacity];
+        this.sysex = new String [capacity];
+    }
+
+
+    /**
+     * Add a short MIDI message. Must only be called by the producer thread.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return False if the ring was full and the message was dropped
+     */
+    public boolean addMessage (final int status, final int data1, final int data2)
+    {
+        return this.add ((status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF, null);
+    }
+
+
+    /**
+     * Add a system exclusive message. Must only be called by the producer thread.
+     *
+     * @param data The data bytes formatted as hex string without spaces
+     * @return False if the ring was full and the message was dropped
+     */
+    public boolean addSysex (final String data)
+    {
+        return this.add (SYSEX, data);
+    }
+
+
+    /**
+     * Hand all stored events to the consumer and remove them from the ring. Must only be called by
+     * the consumer thread.
+     *
+     * @param consumer The consumer
+     * @return The number of events handed to the consumer
+     */
+    public int drain (final IMidiEventConsumer consumer)
+    {
+        final long droppedEvents = this.dropped.get ();
+        if (droppedEvents != this.reportedDropped)
+        {
+            consumer.handleDropped (droppedEvents - this.reportedDropped);
+            this.reportedDropped = droppedEvents;
+        }
+
+        final long start = this.tail.get ();
+        final long end = this.head.get ();
+        for (long position = start; position < end; position++)
+        {
+            final int index = (int) position & this.mask;
+            final int message = this.messages[index];
+            if (message == SYSEX)
+            {
+                final String data = this.sysex[index];
+                this.sysex[index] = null;
+                consumer.handleSysex (this.timestamps[index], data);
+            }
+            else
+                consumer.handleMessage (this.timestamps[index], message >> 16, message >> 8 & 0xFF, message & 0xFF);
+
+            // Release the slot for the producer
+            this.tail.lazySet (position + 1);
+        }
+        return (int) (end - start);
+    }
+
+
+    /**
+     * Get the number of events which are waiting for the consumer.
+     *
+     * @return The number of events
+     */
+    public int getPendingEvents ()
+    {
+        return (int) (this.head.get () - this.tail.get ());
+    }
+
+
+    /**
+     * Get the number of events which were dropped since the ring was full.
+     *
+     * @return The number of dropped events
+     */
+    public long getDroppedEvents ()
+    {
+        return this.dropped.get ();
+    }
+
+
+    private boolean add (final int message, final String data)
+    {
+        final long position = this.head.get ();
+        if (position - this.tail.get () > this.mask)
+        {
+            this.dropped.incrementAndGet ();
+            return false;
+        }
+
+        final int index = (int) position & this.mask;
+        this.timestamps[index] = System.nanoTime ();
+        this.messages[index] = message;
+        this.sysex[index] = data;
+
+        // Publish the event to the consumer
+        this.head.lazySet (position + 1);
+        return true;
+    }
+}
@@ -9,7 +9,13 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -17,10 +23,19 @@ import de.mossgrabers.framework.utils.StringUtils;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration>
+public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration> implements IMidiEventConsumer
 {
     private static final String    GENERAL_PURPOSE = "General Purpose";
 
+    /** The number of events which can be buffered until the formatter has caught up. */
+    private static final int       RING_CAPACITY   = 8192;
+    /** The interval in milliseconds in which the events are formatted. */
+    private static final int       FORMAT_INTERVAL = 20;
+    /** The interval in milliseconds in which the formatted text is printed to the console. */
+    private static final int       PRINT_INTERVAL  = 50;
+    private static final long      MAX_LOG_SIZE    = 10L * 1024 * 1024;
+    private static final int       NUM_LOG_BACKUPS = 3;
+
     private static final String [] SPACES          =
     {
         "",
@@ -220,8 +235,38 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         }
     }
 
-    private boolean printHeader      = true;
-    private boolean printSysexHeader = true;
+    // Pre-formatted columns and note names to format the events without String.format
+    private static final String [] HEX_BYTES       = new String [256];
+    private static final String [] DECIMAL_BYTES   = new String [256];
+    private static final String [] CHANNELS        = new String [16];
+    private static final String [] NOTE_NAMES      = new String [128];
+    static
+    {
+        for (int i = 0; i < 256; i++)
+        {
+            HEX_BYTES[i] = padNumber (i, 2, true);
+            DECIMAL_BYTES[i] = padNumber (i, 3, false);
+        }
+        for (int i = 0; i < CHANNELS.length; i++)
+            CHANNELS[i] = padNumber (i + 1, 4, false);
+        for (int i = 0; i < NOTE_NAMES.length; i++)
+            NOTE_NAMES[i] = Scales.formatNoteAndOctave (i, -2);
+    }
+
+    private final MidiEventRing      events           = new MidiEventRing (RING_CAPACITY);
+    private final LatestTaskExecutor formatter        = new LatestTaskExecutor ();
+    private final Queue<String>      consoleOutput    = new ConcurrentLinkedQueue<> ();
+    private final long               startTime        = System.nanoTime ();
+    private volatile boolean         isShutdown       = false;
+
+    // Only accessed by the formatter
+    private final StringBuilder      line             = new StringBuilder ();
+    private final StringBuilder      text             = new StringBuilder ();
+    private final StringBuilder      fileText         = new StringBuilder ();
+    private RotatingLogFile          logFile;
+    private String                   logFileName      = "";
+    private boolean                  printHeader      = true;
+    private boolean                  printSysexHeader = true;
 
 
     /**
@@ -236,117 +281,320 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         super (host, configuration, null, null, input, null, 10, 10);
 
         this.input.setSysexCallback (this::handleSysEx);
+
+        this.formatter.scheduleAtFixedRate (this::formatEvents, FORMAT_INTERVAL, FORMAT_INTERVAL, TimeUnit.MILLISECONDS);
+        this.host.scheduleTask (this::printOutput, PRINT_INTERVAL);
     }
 
 
     /** {@inheritDoc} */
     @Override
     protected void handleMidi (final int status, final int data1, final int data2)
+    {
+        // Only capture the raw event, formatting is done by the formatter
+        if ((status & 0xF0) != 0xF0 || !this.configuration.isFilterSystemRealtimeEnabled ())
+            this.events.addMessage (status, data1, data2);
+    }
+
+
+    private void handleSysEx (final String dataStr)
+    {
+        this.events.addSysex (dataStr);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleMessage (final long timestamp, final int status, final int data1, final int data2)
     {
         final int code = status & 0xF0;
+        if (code < 0x80)
+        {
+            this.line.append ("Unhandled MIDI status: ").append (status);
+            this.addLine (timestamp);
+            return;
+        }
+
         final int channel = status & 0xF;
+        this.startMessageLine (timestamp, status, data1, data2, channel);
 
         switch (code)
         {
             // Note off
             case 0x80:
-                this.log (status, data1, data2, channel, "Note Off " + Scales.formatNoteAndOctave (data1, -2));
+                this.line.append ("Note Off ").append (NOTE_NAMES[data1]);
                 break;
 
             // Note on
             case 0x90:
-                this.log (status, data1, data2, channel, "Note On  " + Scales.formatNoteAndOctave (data1, -2));
+                this.line.append ("Note On  ").append (NOTE_NAMES[data1]);
                 break;
 
             // Polyphonic After-touch
             case 0xA0:
-                this.log (status, data1, data2, channel, "Polyphonic Key Pressure " + Scales.formatNoteAndOctave (data1, -2));
+                this.line.append ("Polyphonic Key Pressure ").append (NOTE_NAMES[data1]);
                 break;
 
             // CC
             case 0xB0:
-                this.log (status, data1, data2, channel, "CC " + CC_NAMES[data1]);
+                this.line.append ("CC ").append (CC_NAMES[data1]);
                 break;
 
             // Program Change
             case 0xC0:
-                this.log (status, data1, data2, channel, "Program Change");
+                this.line.append ("Program Change");
                 break;
 
             // Channel After-touch
             case 0xD0:
-                this.log (status, data1, data2, channel, "Channel Pressure (Aftertouch)");
+                this.line.append ("Channel Pressure (Aftertouch)");
                 break;
 
             // Pitch Bend
             case 0xE0:
-                this.log (status, data1, data2, channel, "Pitchbend");
+                this.line.append ("Pitchbend");
                 break;
 
             // System Realtime - Active Sense
-            case 0xF0:
-                if (!this.configuration.isFilterSystemRealtimeEnabled ())
-                {
-                    if (channel == 14)
-                        this.log (status, data1, data2, channel, "System Realtime - Active Sense");
-                    else
-                        this.log (status, data1, data2, channel, "System Realtime");
-                }
-                break;
-
             default:
-                this.host.println ("Unhandled MIDI status: " + status);
+                this.line.append (channel == 14 ? "System Realtime - Active Sense" : "System Realtime");
                 break;
         }
+
+        this.addLine (timestamp);
     }
 
 
-    private void handleSysEx (final String dataStr)
+    /** {@inheritDoc} */
+    @Override
+    public void handleSysex (final long timestamp, final String data)
     {
         if (this.printSysexHeader)
         {
             this.printHeader = true;
             this.printSysexHeader = false;
-            this.host.println ("");
-            this.host.println ("| SYSEX");
-            this.host.println ("|-----------------------------------------------------------------------");
+            this.addLine (timestamp);
+            this.line.append ("| SYSEX");
+            this.addLine (timestamp);
+            this.line.append ("|-----------------------------------------------------------------------");
+            this.addLine (timestamp);
         }
 
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        StringBuilder sb = new StringBuilder ("| ");
-        for (int i = 0; i < data.length; i++)
+        final int length = data.length () / 2;
+        this.line.append ("| ");
+        for (int i = 0; i < length; i++)
         {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
+            this.line.append (HEX_BYTES[getByte (data, i)]);
 
             if (i != 0 && (i + 1) % 16 == 0)
             {
-                this.host.println (sb.toString ());
-                sb = new StringBuilder ("| ");
+                this.addLine (timestamp);
+                this.line.append ("| ");
             }
             else
-                sb.append (' ');
+                this.line.append (' ');
+        }
+
+        if (this.line.length () > 2)
+        {
+            if (length == 6 && getByte (data, 0) == 0xF0 && getByte (data, 1) == 0x7F && getByte (data, 3) == 0x06 && getByte (data, 5) == 0xF7)
+                this.line.append (" - MMC ").append (MMC_NAMES[getByte (data, 4) & 0x7F]);
+            this.addLine (timestamp);
+        }
+        else
+            this.line.setLength (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleDropped (final long count)
+    {
+        this.line.append ("| ").append (count).append (" events dropped, the monitor could not keep up");
+        this.addLine (System.nanoTime ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
+    {
+        this.isShutdown = true;
+
+        // Format the remaining events and close the log file
+        this.formatter.execute ( () -> {
+            this.formatEvents ();
+            this.closeLogFile ();
+        });
+        this.formatter.shutdown ();
+        try
+        {
+            this.formatter.awaitTermination (5, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("MIDI monitor formatter did not end in 5 seconds. Interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+
+        // Print the events which were formatted after the last scheduled print
+        this.printOutput ();
+
+        super.internalShutdown ();
+    }
+
+
+    /**
+     * Get the number of events which were dropped since the formatter could not keep up.
+     *
+     * @return The number of dropped events
+     */
+    public long getDroppedEvents ()
+    {
+        return this.events.getDroppedEvents ();
+    }
+
+
+    /**
+     * Formats all captured events. Executed by the formatter.
+     */
+    private void formatEvents ()
+    {
+        this.updateLogFile ();
+
+        this.events.drain (this);
+
+        if (this.text.length () > 0)
+        {
+            // Remove the last line break, println adds one
+            this.text.setLength (this.text.length () - 1);
+            this.consoleOutput.add (this.text.toString ());
+            this.text.setLength (0);
+        }
+
+        if (this.fileText.length () > 0)
+        {
+            if (this.logFile != null)
+            {
+                try
+                {
+                    this.logFile.write (this.fileText);
+                }
+                catch (final IOException ex)
+                {
+                    this.consoleOutput.add ("Could not write log file: " + ex.getMessage ());
+                    this.closeLogFile ();
+                }
+            }
+            this.fileText.setLength (0);
+        }
+    }
+
+
+    /**
+     * Print the formatted events to the console. Executed by the host.
+     */
+    private void printOutput ()
+    {
+        String output;
+        while ((output = this.consoleOutput.poll ()) != null)
+            this.host.println (output);
+
+        if (!this.isShutdown)
+            this.host.scheduleTask (this::printOutput, PRINT_INTERVAL);
+    }
+
+
+    /**
+     * Open, close or exchange the log file if the setting has changed.
+     */
+    private void updateLogFile ()
+    {
+        final String fileName = this.configuration.getLogFile ();
+        if (fileName.equals (this.logFileName))
+            return;
+
+        this.closeLogFile ();
+        this.logFileName = fileName;
+        if (fileName.isEmpty ())
+            return;
+
+        try
+        {
+            this.logFile = new RotatingLogFile (new File (fileName), MAX_LOG_SIZE, NUM_LOG_BACKUPS);
+        }
+        catch (final IOException ex)
+        {
+            this.consoleOutput.add ("Could not open log file: " + ex.getMessage ());
         }
+    }
+
+
+    private void closeLogFile ()
+    {
+        if (this.logFile == null)
+            return;
 
-        if (sb.length () > 2)
+        try
         {
-            if (data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
-                sb.append (" - MMC ").append (MMC_NAMES[data[4]]);
-            this.host.println (sb.toString ());
+            this.logFile.close ();
         }
+        catch (final IOException ex)
+        {
+            this.consoleOutput.add ("Could not close log file: " + ex.getMessage ());
+        }
+        this.logFile = null;
     }
 
 
-    private void log (final int status, final int data1, final int data2, final int channel, final String text)
+    private void startMessageLine (final long timestamp, final int status, final int data1, final int data2, final int channel)
     {
         if (this.printHeader)
         {
             this.printSysexHeader = true;
             this.printHeader = false;
-            this.host.println ("");
-            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
-            this.host.println ("|--------|--------|--------|------|-------------------------------------");
+            this.addLine (timestamp);
+            this.line.append ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
+            this.addLine (timestamp);
+            this.line.append ("|--------|--------|--------|------|-------------------------------------");
+            this.addLine (timestamp);
+        }
+
+        this.line.append ("| ").append (HEX_BYTES[status]).append (' ').append (DECIMAL_BYTES[status]);
+        this.line.append (" | ").append (HEX_BYTES[data1]).append (' ').append (DECIMAL_BYTES[data1]);
+        this.line.append (" | ").append (HEX_BYTES[data2]).append (' ').append (DECIMAL_BYTES[data2]);
+        this.line.append (" | ").append (CHANNELS[channel]).append (" | ");
+    }
+
+
+    /**
+     * Add the current line to the console text and to the log file text. The lines of the log file
+     * are prefixed with the time in seconds since the start of the monitor.
+     *
+     * @param timestamp The time when the event of the line was received (System.nanoTime)
+     */
+    private void addLine (final long timestamp)
+    {
+        this.text.append (this.line).append ('\n');
+
+        if (this.logFile != null)
+        {
+            final long millis = Math.max (0, (timestamp - this.startTime) / 1000000L);
+            final long fraction = millis % 1000;
+            this.fileText.append (millis / 1000).append ('.');
+            if (fraction < 100)
+                this.fileText.append (fraction < 10 ? "00" : "0");
+            this.fileText.append (fraction).append (' ').append (this.line).append ('\n');
         }
-        this.host.println ("| " + padNumber (status, 2, true) + " " + padNumber (status, 3, false) + " | " + padNumber (data1, 2, true) + " " + padNumber (data1, 3, false) + " | " + padNumber (data2, 2, true) + " " + padNumber (data2, 3, false) + " | " + padNumber (channel + 1, 4, false) + " | " + text);
+
+        this.line.setLength (0);
+    }
+
+
+    private static int getByte (final String data, final int index)
+    {
+        final int pos = index * 2;
+        return Character.digit (data.charAt (pos), 16) << 4 | Character.digit (data.charAt (pos + 1), 16);
     }
 
 
@@ -368,4 +616,4 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
             return SPACES[diff] + text;
         return text;
     }
-}
\ No newline at end of file
+}
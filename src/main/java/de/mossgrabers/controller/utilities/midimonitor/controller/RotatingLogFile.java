@@ -0,0 +1,113 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.midimonitor.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * A log file which is rotated when it exceeds a maximum size. The current file is renamed to
+ * 'name.1', an existing 'name.1' to 'name.2' and so on. The oldest file is deleted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RotatingLogFile
+{
+    private final File file;
+    private final long maxSize;
+    private final int  numBackups;
+    private Writer     writer;
+    private long       size;
+
+
+    /**
+     * Constructor. Appends to an existing file.
+     *
+     * @param file The log file
+     * @param maxSize The size in bytes at which the file is rotated
+     * @param numBackups The number of rotated files to keep
+     * @throws IOException Could not open the file
+     */
+    public RotatingLogFile (final File file, final long maxSize, final int numBackups) throws IOException
+    {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.numBackups = numBackups;
+
+        this.open ();
+    }
+
+
+    /**
+     * Get the log file.
+     *
+     * @return The file
+     */
+    public File getFile ()
+    {
+        return this.file;
+    }
+
+
+    /**
+     * Append text to the file and rotate the file if it has exceeded the maximum size.
+     *
+     * @param text The text to append, should end with a line break
+     * @throws IOException Could not write or rotate the file
+     */
+    public void write (final CharSequence text) throws IOException
+    {
+        this.writer.append (text);
+        this.writer.flush ();
+
+        // Only ASCII is written, therefore the number of characters equals the number of bytes
+        this.size += text.length ();
+        if (this.size < this.maxSize)
+            return;
+
+        this.writer.close ();
+        for (int i = this.numBackups - 1; i > 0; i--)
+        {
+            final File backup = this.getBackupFile (i);
+            if (backup.exists ())
+                Files.move (backup.toPath (), this.getBackupFile (i + 1).toPath (), StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (this.numBackups > 0)
+            Files.move (this.file.toPath (), this.getBackupFile (1).toPath (), StandardCopyOption.REPLACE_EXISTING);
+        else
+            Files.delete (this.file.toPath ());
+        this.open ();
+    }
+
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException Could not close the file
+     */
+    public void close () throws IOException
+    {
+        this.writer.close ();
+    }
+
+
+    private void open () throws IOException
+    {
+        this.writer = Files.newBufferedWriter (this.file.toPath (), StandardCharsets.US_ASCII, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.size = this.file.length ();
+    }
+
+
+    private File getBackupFile (final int index)
+    {
+        return new File (this.file.getPath () + "." + index);
+    }
+}
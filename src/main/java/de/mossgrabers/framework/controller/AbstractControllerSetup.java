@@ -34,6 +34,8 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
+import de.mossgrabers.framework.utils.OutputExecutor;
+import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.utils.TestCallback;
 import de.mossgrabers.framework.utils.TestFramework;
 import de.mossgrabers.framework.view.Views;
@@ -153,8 +155,15 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     public void exit ()
     {
         this.configuration.clearSettingObservers ();
+
+        // Log the state of the output threads while the lanes of the surfaces are still open
+        this.host.println (String.format ("Output executor: %d threads, %d lanes, %d tasks waiting, %d tasks dropped", Integer.valueOf (OutputExecutor.getThreadCount ()), Integer.valueOf (OutputExecutor.getLaneCount ()), Integer.valueOf (OutputExecutor.getBacklog ()), Long.valueOf (OutputExecutor.getDroppedTasks ())));
+
         for (final S surface: this.surfaces)
             surface.shutdown ();
+
+        // The name caches are shared, the hit rates cover all surfaces
+        this.host.println (String.format ("Name cache hit rates: shortened %.0f%%, ASCII %.0f%%", Double.valueOf (StringUtils.getOptimizedNameHitRate () * 100), Double.valueOf (StringUtils.getFixedASCIIHitRate () * 100)));
         this.host.println ("Exited.");
     }
 
@@ -12,17 +12,21 @@ import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.daw.resource.DeviceTypes;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
+import de.mossgrabers.framework.graphics.FontMetricsCache;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelSelectComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ClipListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.IUpdateableComponent;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 import de.mossgrabers.framework.graphics.canvas.component.ListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.MidiClipComponent;
@@ -31,14 +35,17 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.graphics.display.ComponentTileCache;
+import de.mossgrabers.framework.graphics.display.ComponentTileCache.TileKey;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -72,18 +79,23 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
     /** Timeout for displaying the notification message. */
     private static final int               TIMEOUT                         = 2;
+    /** The maximum memory to use for pre-rendered component tiles. */
+    private static final long              TILE_CACHE_SIZE                 = 4 * 1024 * 1024;
 
     private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final LatestTaskExecutor       executor                        = new LatestTaskExecutor ();
 
     private final List<IComponent>         columns                         = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
     private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private boolean                        isImageChanged                  = false;
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
+    private final ComponentTileCache       tileCache                       = new ComponentTileCache (TILE_CACHE_SIZE);
+    private Object []                      tileConfiguration               = new Object [0];
 
     private IHwGraphicsDisplay             hardwareDisplay;
 
@@ -148,6 +160,12 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             this.host.error ("USB display send executor did not end in 10 seconds. Interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
+
+        this.host.println (String.format ("Graphics display: tile cache %d hits, %d misses, %d evictions, %d bytes used", Long.valueOf (this.tileCache.getHits ()), Long.valueOf (this.tileCache.getMisses ()), Long.valueOf (this.tileCache.getEvictions ()), Long.valueOf (this.tileCache.getUsedMemory ())));
+
+        final FontMetricsCache fontMetricsCache = this.image.getFontMetricsCache ();
+        if (fontMetricsCache != null)
+            this.host.println (String.format ("Graphics display: font size cache hit rate %.0f%%, advance table hit rate %.0f%%", Double.valueOf (fontMetricsCache.getHitRate () * 100), Double.valueOf (fontMetricsCache.getAdvanceTableHitRate () * 100)));
     }
 
 
@@ -160,17 +178,22 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         try
         {
-            final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
-
             // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            final String notification = this.notificationMessage.get ();
+            this.isImageChanged = this.hasContentChanged (notification);
+            if (this.isImageChanged)
             {
-                this.info = newInfo;
+                this.info = new ModelInfo (notification, this.columns);
                 this.renderImage ();
             }
         }
         finally
         {
+            for (final IComponent component: this.columns)
+            {
+                if (component instanceof IUpdateableComponent)
+                    ((IUpdateableComponent) component).clearDirty ();
+            }
             this.columns.clear ();
         }
 
@@ -178,6 +201,18 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Check if the image was rendered again for the current frame since the displayed data has
+     * changed.
+     *
+     * @return True if the content of the image changed since the previous frame
+     */
+    protected boolean isImageChanged ()
+    {
+        return this.isImageChanged;
+    }
+
+
     /**
      * Send the buffered image to the graphics display.
      *
@@ -233,7 +268,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addChannelSelectorElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final boolean isActive)
     {
-        this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+        final ChannelSelectComponent component = this.getRetainedComponent (ChannelSelectComponent.class);
+        if (component == null)
+            this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+        else
+        {
+            component.update (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive);
+            this.addElement (component);
+        }
     }
 
 
@@ -265,7 +307,15 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
+
+        final ChannelComponent component = this.getRetainedComponent (ChannelComponent.class);
+        if (component == null)
+            this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
+        else
+        {
+            component.update (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode);
+            this.addElement (component);
+        }
     }
 
 
@@ -289,7 +339,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        else
+            this.updateParameterElement (component, topMenu, isTopMenuOn, bottomMenu, ChannelSelectComponent.getIcon (type), bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue, LabelLayout.SEPARATE_COLOR);
     }
 
 
@@ -297,7 +351,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElementWithPlainMenu (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        else
+            this.updateParameterElement (component, topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue, LabelLayout.PLAIN);
     }
 
 
@@ -305,7 +363,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        else
+            this.updateParameterElement (component, topMenu, isTopMenuOn, bottomMenu, deviceName == null ? null : DeviceTypes.getIconId (deviceName), bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue, LabelLayout.SEPARATE_COLOR);
     }
 
 
@@ -329,7 +391,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addOptionElement (final String headerTopName, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottomName, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
     {
-        this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        final OptionsComponent component = this.getRetainedComponent (OptionsComponent.class);
+        if (component == null)
+            this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        else
+        {
+            component.update (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected);
+            this.addElement (component);
+        }
     }
 
 
@@ -408,22 +477,124 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Get the cache for the pre-rendered components, e.g. to retrieve its statistics.
+     *
+     * @return The cache
+     */
+    public ComponentTileCache getTileCache ()
+    {
+        return this.tileCache;
+    }
+
+
+    private void updateParameterElement (final ParameterComponent component, final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String icon, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue, final LabelLayout lowerLayout)
+    {
+        component.update (topMenu, isTopMenuOn, bottomMenu, icon, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, lowerLayout);
+        this.addElement (component);
+    }
+
+
+    /**
+     * Get the component which was drawn in the previous frame at the column which is added next.
+     * It can be updated in place if it is of the requested class, which prevents creating new
+     * objects for each frame.
+     *
+     * @param <T> The type of the component
+     * @param clazz The class of the component
+     * @return The component or null if there is no component of exactly that class in the column
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends IUpdateableComponent> T getRetainedComponent (final Class<T> clazz)
+    {
+        final List<IComponent> previous = this.info.getComponents ();
+        final int column = this.columns.size ();
+        if (column >= previous.size ())
+            return null;
+        final IComponent component = previous.get (column);
+        return component != null && component.getClass () == clazz ? (T) component : null;
+    }
+
+
+    /**
+     * Check if the content of the new frame differs from the one drawn before. Components which
+     * were updated in place only need to be checked for their dirty flag.
+     *
+     * @param notification The current notification message, might be null
+     * @return True if the image needs to be rendered again
+     */
+    private boolean hasContentChanged (final String notification)
+    {
+        if (!Objects.equals (notification, this.info.getNotification ()))
+            return true;
+
+        final List<IComponent> previous = this.info.getComponents ();
+        final int size = this.columns.size ();
+        if (size != previous.size ())
+            return true;
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = this.columns.get (i);
+            final IComponent previousComponent = previous.get (i);
+            if (component == previousComponent)
+            {
+                if (component instanceof IUpdateableComponent && ((IUpdateableComponent) component).isDirty ())
+                    return true;
+            }
+            else if (component == null || !component.equals (previousComponent))
+                return true;
+        }
+        return false;
+    }
+
+
     private void renderImage ()
     {
-        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final String notification = this.info.getNotification ();
+
+        final boolean useTiles = areTilesCacheable (elements);
+        final TileKey [] tileKeys = new TileKey [size];
+        final byte [] [] tiles = new byte [size] [];
+        final boolean [] drawColumns = new boolean [size];
+        if (useTiles)
+        {
+            this.checkTileConfiguration ();
+
+            final int gridWidth = width / size;
+            for (int i = 0; i < size; i++)
+            {
+                final int tileWidth = i == size - 1 ? width - i * gridWidth : gridWidth;
+                tileKeys[i] = ComponentTileCache.createKey (i > 0 ? elements.get (i - 1) : null, elements.get (i), i < size - 1 ? elements.get (i + 1) : null, tileWidth, height);
+                tiles[i] = this.tileCache.get (tileKeys[i]);
+            }
+
+            // Missing tiles and their neighbours need to be drawn since they draw into each others
+            // separator area
+            for (int i = 0; i < size; i++)
+            {
+                if (tiles[i] == null)
+                {
+                    for (int j = Math.max (0, i - 1); j <= Math.min (size - 1, i + 1); j++)
+                        drawColumns[j] = true;
+                }
+            }
+        }
+        else
+            Arrays.fill (drawColumns, true);
 
+        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
             // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+            gc.fillRectangle (0, 0, width, height, this.configuration.getColorBorder ());
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
             if (size == 0)
                 return;
             final int gridWidth = width / size;
+            final double separatorSize = this.dimensions.getSeparatorSize ();
             final double paintWidth = gridWidth - separatorSize;
             final double offsetX = separatorSize / 2.0;
 
@@ -431,16 +602,87 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             for (int i = 0; i < size; i++)
             {
                 final IComponent component = elements.get (i);
-                if (component != null)
+                if (component != null && drawColumns[i])
                     component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
             }
 
-            final String notification = this.info.getNotification ();
-            if (notification == null)
-                return;
+            if (!useTiles)
+                this.renderNotification (gc, notification);
+        });
 
-            final ColorEx colorText = this.configuration.getColorText ();
-            gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
+        if (!useTiles)
+            return;
+
+        this.image.encode ( (imageBuffer, imageWidth, imageHeight) -> {
+            final int gridWidth = width / size;
+            for (int i = 0; i < size; i++)
+            {
+                if (tiles[i] != null)
+                    ComponentTileCache.blit (tileKeys[i], tiles[i], imageBuffer, imageWidth, i * gridWidth);
+                else if (notification == null)
+                    this.tileCache.put (tileKeys[i], imageBuffer, imageWidth, i * gridWidth);
+            }
         });
+
+        if (notification != null)
+            this.image.render (this.configuration.isAntialiasEnabled (), gc -> this.renderNotification (gc, notification));
+    }
+
+
+    /**
+     * The cached tiles were drawn with the colors of the configuration. Remove all of them if one of
+     * the colors (or the anti-aliasing) was changed.
+     */
+    private void checkTileConfiguration ()
+    {
+        final Object [] tileConfig =
+        {
+            this.configuration.getColorText (),
+            this.configuration.getColorBackground (),
+            this.configuration.getColorBackgroundDarker (),
+            this.configuration.getColorBackgroundLighter (),
+            this.configuration.getColorBorder (),
+            this.configuration.getColorEdit (),
+            this.configuration.getColorFader (),
+            this.configuration.getColorVu (),
+            this.configuration.getColorRecord (),
+            this.configuration.getColorSolo (),
+            this.configuration.getColorMute (),
+            Boolean.valueOf (this.configuration.isAntialiasEnabled ())
+        };
+        if (Arrays.equals (tileConfig, this.tileConfiguration))
+            return;
+        this.tileConfiguration = tileConfig;
+        this.tileCache.clear ();
+    }
+
+
+    /**
+     * Tiles can only be used if no component draws into other columns.
+     *
+     * @param elements The components to draw
+     * @return True if all components can be cached
+     */
+    private static boolean areTilesCacheable (final List<IComponent> elements)
+    {
+        if (elements.isEmpty ())
+            return false;
+        for (final IComponent component: elements)
+        {
+            if (component == null || !component.isTileCacheable ())
+                return false;
+        }
+        return true;
+    }
+
+
+    private void renderNotification (final IGraphicsContext gc, final String notification)
+    {
+        if (notification == null)
+            return;
+
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, this.configuration.getColorText (), this.configuration.getColorBorder (), height / 4.0);
     }
 }
@@ -7,40 +7,49 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.TimerHandle;
+
+import java.util.Arrays;
 
 
 /**
- * Abstract implementation of a display.
+ * Abstract implementation of a display. The cells are written in place into a character grid. The
+ * changes of each row against the last sent content are tracked on completion of the row (done),
+ * therefore a string is only created for the rows which need to be sent.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractTextDisplay implements ITextDisplay
 {
     /** Time to keep a notification displayed in ms. */
-    public static final int  NOTIFICATION_TIME    = 1000;
+    public static final int     NOTIFICATION_TIME    = 1000;
 
-    protected IHost          host;
-    protected IMidiOutput    output;
+    protected IHost             host;
+    protected IMidiOutput       output;
 
-    protected int            noOfLines;
-    protected int            noOfCells;
-    protected int            noOfCharacters;
-    protected int            charactersOfCell;
+    protected int               noOfLines;
+    protected int               noOfCells;
+    protected int               noOfCharacters;
+    protected int               charactersOfCell;
 
-    protected final String   emptyLine;
-    protected String         notificationMessage;
-    protected boolean        centerNotification   = true;
-    protected int            isNotificationActive = 0;
-    protected final Object   notificationLock     = new Object ();
+    protected final String      emptyLine;
+    protected String            notificationMessage;
+    protected boolean           centerNotification   = true;
+    protected int               isNotificationActive = 0;
+    protected final Object      notificationLock     = new Object ();
+    protected final TimerHandle notificationTimer;
 
-    private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
-    protected String []      fullRows;
-    protected String []      cells;
+    private final int []        cellWidths;
+    private final int []        cellOffsets;
+    private final char [] []    cells;
+    private final String []     fullRows;
+    private final char [] []    message;
+    private final int []        messageLengths;
+    private final char [] []    currentMessage;
+    private final int []        currentLengths;
+    private final boolean []    dirtyRows;
 
-    protected IHwTextDisplay hwDisplay;
+    protected IHwTextDisplay    hwDisplay;
 
 
     /**
@@ -53,28 +62,63 @@ public abstract class AbstractTextDisplay implements ITextDisplay
      * @param noOfCharacters The number of characters of 1 row that the display supports
      */
     protected AbstractTextDisplay (final IHost host, final IMidiOutput output, final int noOfLines, final int noOfCells, final int noOfCharacters)
+    {
+        this (host, output, noOfLines, noOfCells, noOfCharacters, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param output The MIDI output which addresses the display
+     * @param noOfLines The number of rows that the display supports
+     * @param noOfCells The number of cells that the display supports
+     * @param noOfCharacters The number of characters of 1 row that the display supports
+     * @param cellWidths The number of characters of each cell, if null all cells have the width of
+     *            noOfCharacters / noOfCells
+     */
+    protected AbstractTextDisplay (final IHost host, final IMidiOutput output, final int noOfLines, final int noOfCells, final int noOfCharacters, final int [] cellWidths)
     {
         this.host = host;
         this.output = output;
+        this.notificationTimer = host.getTimerWheel ().createTimer (this::watch);
 
         this.noOfLines = noOfLines;
         this.noOfCells = noOfCells;
         this.noOfCharacters = noOfCharacters;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
 
-        this.emptyCell = "                                                                     ".substring (0, this.charactersOfCell);
-
         final StringBuilder sb = new StringBuilder (this.noOfCharacters);
         for (int i = 0; i < this.noOfCharacters; i++)
             sb.append (' ');
         this.emptyLine = sb.toString ();
         this.notificationMessage = this.emptyLine;
 
-        this.currentMessage = new String [this.noOfLines];
+        this.cellWidths = new int [this.noOfCells];
+        this.cellOffsets = new int [this.noOfCells];
+        int rowLength = 0;
+        for (int i = 0; i < this.noOfCells; i++)
+        {
+            this.cellWidths[i] = cellWidths == null ? this.charactersOfCell : cellWidths[i];
+            this.cellOffsets[i] = rowLength;
+            rowLength += this.cellWidths[i];
+        }
 
-        this.message = new String [this.noOfLines];
+        this.cells = new char [this.noOfLines] [rowLength];
+        for (final char [] row: this.cells)
+            Arrays.fill (row, ' ');
         this.fullRows = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+
+        final int capacity = Math.max (rowLength, this.noOfCharacters);
+        this.message = new char [this.noOfLines] [capacity];
+        this.messageLengths = new int [this.noOfLines];
+        this.currentMessage = new char [this.noOfLines] [capacity];
+        this.currentLengths = new int [this.noOfLines];
+        Arrays.fill (this.messageLengths, -1);
+        Arrays.fill (this.currentLengths, -1);
+
+        this.dirtyRows = new boolean [this.noOfLines];
     }
 
 
@@ -156,19 +200,27 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay done (final int row)
     {
-        if (this.fullRows[row] != null)
+        final String fullRow = this.fullRows[row];
+        if (fullRow != null)
         {
-            this.message[row] = this.fullRows[row];
             this.fullRows[row] = null;
+            final int length = fullRow.length ();
+            if (length > this.message[row].length)
+            {
+                this.message[row] = new char [length];
+                this.currentMessage[row] = Arrays.copyOf (this.currentMessage[row], length);
+            }
+            fullRow.getChars (0, length, this.message[row], 0);
+            this.messageLengths[row] = length;
         }
         else
         {
-            final int index = row * this.noOfCells;
-            this.message[row] = "";
-            for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+            final int length = this.cells[row].length;
+            System.arraycopy (this.cells[row], 0, this.message[row], 0, length);
+            this.messageLengths[row] = length;
         }
 
+        this.updateDirtyRow (row);
         return this;
     }
 
@@ -187,7 +239,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = this.emptyCell;
+        this.writeCell (row, column, null, 0, 0);
         return this;
     }
 
@@ -207,7 +259,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell);
+            this.writeCell (row, column, value, 0, this.cellWidths[column]);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -222,20 +274,35 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
         final int cell = 2 * block;
-        if (value.length () >= this.charactersOfCell)
-        {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell);
-        }
-        else
-        {
-            this.setCell (row, cell, value);
-            this.clearCell (row, cell + 1);
-        }
+        final int width = this.cellWidths[cell];
+        this.writeCell (row, cell, value, 0, width);
+        this.writeCell (row, cell + 1, value, width, this.cellWidths[cell + 1]);
         return this;
     }
 
 
+    /**
+     * Write a part of a text into a cell. The text is cut at the width of the cell and the rest of
+     * the cell is filled with spaces.
+     *
+     * @param row The row of the cell
+     * @param column The index of the cell
+     * @param text The text, might be null
+     * @param start The index of the first character of the text to write
+     * @param length The maximum number of characters to write
+     */
+    protected void writeCell (final int row, final int column, final String text, final int start, final int length)
+    {
+        final char [] rowCells = this.cells[row];
+        final int offset = this.cellOffsets[column];
+        final int width = this.cellWidths[column];
+        final int count = text == null ? 0 : Math.max (0, Math.min (Math.min (length, width), text.length () - start));
+        if (count > 0)
+            text.getChars (start, start + count, rowCells, offset);
+        Arrays.fill (rowCells, offset + count, offset + width, ' ');
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notify (final String message)
@@ -251,7 +318,12 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         synchronized (this.notificationLock)
         {
-            this.isNotificationActive = 0;
+            if (this.isNotificationActive > 0)
+            {
+                this.isNotificationActive = 0;
+                // Restore the display content on the next tick
+                this.notificationTimer.schedule (0);
+            }
         }
     }
 
@@ -272,11 +344,9 @@ public abstract class AbstractTextDisplay implements ITextDisplay
 
         synchronized (this.notificationLock)
         {
-            final boolean isRunning = this.isNotificationActive > 0;
             this.isNotificationActive = AbstractTextDisplay.NOTIFICATION_TIME;
             this.flush ();
-            if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
+            this.notificationTimer.schedule (AbstractTextDisplay.NOTIFICATION_TIME);
         }
     }
 
@@ -285,12 +355,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         synchronized (this.notificationLock)
         {
-            this.isNotificationActive -= 100;
-
-            if (this.isNotificationActive <= 0)
-                this.forceFlush ();
-            else
-                this.host.scheduleTask (this::watch, 100);
+            this.isNotificationActive = 0;
+            this.forceFlush ();
         }
     }
 
@@ -313,15 +379,30 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         for (int row = 0; row < this.noOfLines; row++)
         {
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            if (!this.dirtyRows[row])
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.updateLine (row, this.currentMessage[row]);
+            this.dirtyRows[row] = false;
+            final int length = this.messageLengths[row];
+            System.arraycopy (this.message[row], 0, this.currentMessage[row], 0, length);
+            this.currentLengths[row] = length;
+            this.updateLine (row, new String (this.message[row], 0, length));
         }
     }
 
 
+    /**
+     * Compare the completed content of a row with the last sent one and mark the row as dirty if
+     * they differ.
+     *
+     * @param row The text row
+     */
+    private void updateDirtyRow (final int row)
+    {
+        final int length = this.messageLengths[row];
+        this.dirtyRows[row] = length != this.currentLengths[row] || !Arrays.equals (this.message[row], 0, length, this.currentMessage[row], 0, length);
+    }
+
+
     /**
      * Update the line on the hardware and simulation display.
      *
@@ -352,7 +433,11 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     public void forceFlush ()
     {
         for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        {
+            this.currentLengths[row] = -1;
+            if (this.messageLengths[row] >= 0)
+                this.updateDirtyRow (row);
+        }
     }
 
 
@@ -0,0 +1,164 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+/**
+ * Calculates the character ranges of a display line which differ from the previously sent text.
+ * Neighbouring ranges are merged if re-sending the unchanged characters in between is cheaper than
+ * the overhead of an additional message. Also keeps statistics about the number of bytes which
+ * could be saved compared to sending the full line.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextLineDiff
+{
+    private final int    messageOverhead;
+    private final int [] spanStarts;
+    private final int [] spanEnds;
+    private int          spanCount;
+
+    private final long   startTime  = System.currentTimeMillis ();
+    private long         bytesSent  = 0;
+    private long         bytesSaved = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxLength The maximum length of a line
+     * @param messageOverhead The number of bytes of a message which are not part of the text, e.g.
+     *            SysEx header, offset and end byte
+     */
+    public TextLineDiff (final int maxLength, final int messageOverhead)
+    {
+        this.messageOverhead = messageOverhead;
+        this.spanStarts = new int [maxLength];
+        this.spanEnds = new int [maxLength];
+    }
+
+
+    /**
+     * Calculate the changed character ranges between the previously sent and the new text. If
+     * there is no previous text or the lengths differ the whole line is a single range.
+     *
+     * @param previous The previously sent text, might be null
+     * @param text The new text
+     * @return The number of changed ranges, 0 if nothing has changed
+     */
+    public synchronized int diff (final String previous, final String text)
+    {
+        this.spanCount = 0;
+
+        final int length = Math.min (text.length (), this.spanStarts.length);
+        if (length == 0)
+            return 0;
+        if (previous == null || previous.length () != text.length ())
+        {
+            this.addSpan (0, length);
+            return this.spanCount;
+        }
+
+        int pos = 0;
+        while (pos < length)
+        {
+            if (previous.charAt (pos) == text.charAt (pos))
+            {
+                pos++;
+                continue;
+            }
+
+            final int start = pos;
+            while (pos < length && previous.charAt (pos) != text.charAt (pos))
+                pos++;
+
+            // Merge with the previous range if the gap is cheaper than a new message
+            if (this.spanCount > 0 && start - this.spanEnds[this.spanCount - 1] <= this.messageOverhead)
+                this.spanEnds[this.spanCount - 1] = pos;
+            else
+                this.addSpan (start, pos);
+        }
+
+        return this.spanCount;
+    }
+
+
+    /**
+     * Get the first character index of a changed range.
+     *
+     * @param index The index of the range
+     * @return The start index (inclusive)
+     */
+    public synchronized int getSpanStart (final int index)
+    {
+        return this.spanStarts[index];
+    }
+
+
+    /**
+     * Get the index after the last character of a changed range.
+     *
+     * @param index The index of the range
+     * @return The end index (exclusive)
+     */
+    public synchronized int getSpanEnd (final int index)
+    {
+        return this.spanEnds[index];
+    }
+
+
+    /**
+     * Update the statistics.
+     *
+     * @param fullBytes The number of bytes which would have been necessary to send the full line
+     * @param sentBytes The number of bytes which were actually sent
+     */
+    public synchronized void addStatistics (final int fullBytes, final int sentBytes)
+    {
+        this.bytesSent += sentBytes;
+        this.bytesSaved += fullBytes - sentBytes;
+    }
+
+
+    /**
+     * Get the number of bytes which were sent.
+     *
+     * @return The number of bytes
+     */
+    public synchronized long getBytesSent ()
+    {
+        return this.bytesSent;
+    }
+
+
+    /**
+     * Get the number of bytes which were saved compared to always sending the full line.
+     *
+     * @return The number of bytes
+     */
+    public synchronized long getBytesSaved ()
+    {
+        return this.bytesSaved;
+    }
+
+
+    /**
+     * Get the average number of bytes saved per second since the creation of this instance.
+     *
+     * @return The saved bytes per second
+     */
+    public synchronized double getBytesSavedPerSecond ()
+    {
+        final long elapsed = System.currentTimeMillis () - this.startTime;
+        return elapsed <= 0 ? 0 : this.bytesSaved * 1000.0 / elapsed;
+    }
+
+
+    private void addSpan (final int start, final int end)
+    {
+        this.spanStarts[this.spanCount] = start;
+        this.spanEnds[this.spanCount] = end;
+        this.spanCount++;
+    }
+}
@@ -7,10 +7,6 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 
 /**
  * Implementation of a grid of pads with software simulated blinking pads.
@@ -19,12 +15,12 @@ import java.util.TreeMap;
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int    BLINK_SPEED = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    /** The changed pads since the last flush and the pads which are blinked in software. */
+    protected final PadStateStore padInfos    = new PadStateStore ();
+    protected boolean             isBlink;
+    protected long                updateTime  = System.currentTimeMillis ();
 
 
     /**
@@ -62,7 +58,7 @@ public abstract class BlinkingPadGrid extends PadGridImpl
         synchronized (this.padInfos)
         {
             this.updateController ();
-            this.padInfos.clear ();
+            this.padInfos.clearChanges ();
         }
     }
 
@@ -79,7 +75,7 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.padInfos.setColor (note, color);
         }
     }
 
@@ -90,9 +86,7 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.padInfos.setBlinkColor (note, blinkColor, fast);
         }
     }
 
@@ -75,7 +75,8 @@ public interface ILightGuide
      * Plug for grids not sending notes in the range of 36-100.
      *
      * @param note The outgoing note
-     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller
+     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller, the array
+     *         might be shared and must not be modified
      */
     int [] translateToController (int note);
 
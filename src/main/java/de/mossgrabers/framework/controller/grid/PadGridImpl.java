@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Implementation of a grid of pads.
@@ -244,6 +246,48 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /**
+     * Create the results of translateToController for a translation matrix. Pre-calculating them
+     * avoids creating a new array for each pad update.
+     *
+     * @param channel The MIDI channel to use for all notes
+     * @param matrix The controller notes
+     * @return The channel (index 0) and note (index 1) for each entry of the matrix
+     */
+    protected static int [][] createTranslations (final int channel, final int [] matrix)
+    {
+        final int [][] translations = new int [matrix.length][];
+        for (int i = 0; i < matrix.length; i++)
+        {
+            translations[i] = new int []
+            {
+                channel,
+                matrix[i]
+            };
+        }
+        return translations;
+    }
+
+
+    /**
+     * Create the inverse of a translation matrix, which maps the controller notes back to the grid
+     * notes.
+     *
+     * @param matrix The controller notes
+     * @param startNote The grid note of the first matrix entry
+     * @return The grid note for each controller note (0-127), -1 if a note is not part of the
+     *         matrix
+     */
+    protected static int [] createInverseTranslations (final int [] matrix, final int startNote)
+    {
+        final int [] inverse = new int [NUM_NOTES];
+        Arrays.fill (inverse, -1);
+        for (int i = 0; i < matrix.length; i++)
+            inverse[matrix[i]] = startNote + i;
+        return inverse;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getRows ()
@@ -0,0 +1,215 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * Stores the states of up to 128 pads as encoded integers (see LightInfo). Changed pads and pads
+ * which need to be blinked in software are marked in bit masks, which allows to iterate only over
+ * these pads without creating any objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PadStateStore
+{
+    private static final int NUM_NOTES    = 128;
+    private static final int BLINK_SHIFT  = 8;
+    private static final int FAST_FLAG    = 1 << 16;
+    private static final int COLOR_MASK   = 0xFF;
+
+    private final int []     states       = new int [NUM_NOTES];
+    private final long []    changedPads  = new long [2];
+    private final long []    blinkingPads = new long [2];
+
+
+    /**
+     * Set the color of a pad and mark it as changed. If the pad was not changed since the last call
+     * to clearChanges the blink state is reset.
+     *
+     * @param note The note of the pad (0-127)
+     * @param color The color (0-127)
+     */
+    public void setColor (final int note, final int color)
+    {
+        if (isSet (this.changedPads, note))
+            this.states[note] = this.states[note] & ~COLOR_MASK | color & COLOR_MASK;
+        else
+        {
+            this.states[note] = color & COLOR_MASK;
+            set (this.changedPads, note);
+        }
+    }
+
+
+    /**
+     * Set the blink state of a pad and mark it as changed. If the pad was not changed since the
+     * last call to clearChanges the color is reset.
+     *
+     * @param note The note of the pad (0-127)
+     * @param blinkColor The blink color (0-127)
+     * @param fast Blink fast or slow
+     */
+    public void setBlinkColor (final int note, final int blinkColor, final boolean fast)
+    {
+        final int blinkState = (blinkColor & COLOR_MASK) << BLINK_SHIFT | (fast ? FAST_FLAG : 0);
+        if (isSet (this.changedPads, note))
+            this.states[note] = this.states[note] & COLOR_MASK | blinkState;
+        else
+        {
+            this.states[note] = blinkState;
+            set (this.changedPads, note);
+        }
+    }
+
+
+    /**
+     * Get the color of a pad.
+     *
+     * @param note The note of the pad (0-127)
+     * @return The color
+     */
+    public int getColor (final int note)
+    {
+        return this.states[note] & COLOR_MASK;
+    }
+
+
+    /**
+     * Get the blink color of a pad.
+     *
+     * @param note The note of the pad (0-127)
+     * @return The blink color
+     */
+    public int getBlinkColor (final int note)
+    {
+        return this.states[note] >> BLINK_SHIFT & COLOR_MASK;
+    }
+
+
+    /**
+     * Blink fast or slow?
+     *
+     * @param note The note of the pad (0-127)
+     * @return True if fast
+     */
+    public boolean isFast (final int note)
+    {
+        return (this.states[note] & FAST_FLAG) > 0;
+    }
+
+
+    /**
+     * Check if there are changed pads.
+     *
+     * @return True if at least one pad has changed
+     */
+    public boolean hasChanges ()
+    {
+        return (this.changedPads[0] | this.changedPads[1]) != 0;
+    }
+
+
+    /**
+     * Get the number of changed pads.
+     *
+     * @return The number of pads
+     */
+    public int getNumChanges ()
+    {
+        return Long.bitCount (this.changedPads[0]) + Long.bitCount (this.changedPads[1]);
+    }
+
+
+    /**
+     * Get the next changed pad. Iterate all changed pads in ascending order with:
+     * <code>for (int note = store.nextChange (0); note >= 0; note = store.nextChange (note + 1))</code>
+     *
+     * @param fromNote The note to start searching from (inclusive)
+     * @return The note of the next changed pad or -1 if there is none
+     */
+    public int nextChange (final int fromNote)
+    {
+        return nextSetBit (this.changedPads, fromNote);
+    }
+
+
+    /**
+     * Unmark all changed pads.
+     */
+    public void clearChanges ()
+    {
+        this.changedPads[0] = 0;
+        this.changedPads[1] = 0;
+    }
+
+
+    /**
+     * Mark or unmark a pad for blinking in software. The colors are taken from the last state set
+     * for the pad.
+     *
+     * @param note The note of the pad (0-127)
+     * @param isBlinking True to mark the pad as blinking
+     */
+    public void setBlinking (final int note, final boolean isBlinking)
+    {
+        if (isBlinking)
+            set (this.blinkingPads, note);
+        else
+            this.blinkingPads[note >> 6] &= ~(1L << note);
+    }
+
+
+    /**
+     * Get the number of blinking pads.
+     *
+     * @return The number of pads
+     */
+    public int getNumBlinking ()
+    {
+        return Long.bitCount (this.blinkingPads[0]) + Long.bitCount (this.blinkingPads[1]);
+    }
+
+
+    /**
+     * Get the next pad which is marked for blinking.
+     *
+     * @param fromNote The note to start searching from (inclusive)
+     * @return The note of the next blinking pad or -1 if there is none
+     */
+    public int nextBlinking (final int fromNote)
+    {
+        return nextSetBit (this.blinkingPads, fromNote);
+    }
+
+
+    private static boolean isSet (final long [] bits, final int note)
+    {
+        return (bits[note >> 6] & 1L << note) != 0;
+    }
+
+
+    private static void set (final long [] bits, final int note)
+    {
+        bits[note >> 6] |= 1L << note;
+    }
+
+
+    private static int nextSetBit (final long [] bits, final int fromIndex)
+    {
+        int index = fromIndex >> 6;
+        if (index >= bits.length)
+            return -1;
+
+        // Note: the shift distance of a long is taken modulo 64
+        long word = bits[index] & -1L << fromIndex;
+        while (true)
+        {
+            if (word != 0)
+                return index * 64 + Long.numberOfTrailingZeros (word);
+            if (++index == bits.length)
+                return -1;
+            word = bits[index];
+        }
+    }
+}
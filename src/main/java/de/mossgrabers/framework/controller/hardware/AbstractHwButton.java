@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerHandle;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
     private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
 
+    private final TimerHandle              longPressTimer;
+
 
     /**
      * Constructor.
@@ -41,6 +44,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
+
+        this.longPressTimer = host.getTimerWheel ().createTimer (this::checkButtonState);
     }
 
 
@@ -73,7 +78,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        this.longPressTimer.schedule (BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -90,6 +95,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         if (!this.isBound ())
             return;
 
+        this.longPressTimer.cancel ();
         this.state = ButtonEvent.UP;
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
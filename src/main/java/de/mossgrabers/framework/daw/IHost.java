@@ -15,6 +15,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.List;
 
@@ -52,6 +53,15 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the timer wheel for short, cancellable timeouts. All timers share one periodic task of
+     * the host.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
     /**
      * Print the error to the console.
      *
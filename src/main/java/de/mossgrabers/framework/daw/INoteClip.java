@@ -4,8 +4,11 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.daw.data.GridStep;
 import de.mossgrabers.framework.daw.data.IPinnable;
 
+import java.util.List;
+
 
 /**
  * Interface to a clip, which contains note data.
@@ -57,6 +60,23 @@ public interface INoteClip extends IClip, IPinnable
     IStepInfo getStep (int channel, int step, int row);
 
 
+    /**
+     * Get the states of all notes in a rectangular area of steps and rows with one call. The state
+     * of the note at step s and row r is stored at index (r - firstRow) * numSteps + (s -
+     * firstStep). Steps and rows outside of the clip are set to IStepInfo.NOTE_OFF.
+     *
+     * @param channel The MIDI channel
+     * @param firstStep The first step of the area
+     * @param numSteps The number of steps of the area
+     * @param firstRow The first row of the area
+     * @param numRows The number of rows of the area
+     * @param states The array to fill with the states (0: not set, 1: note continues playing, 2:
+     *            start of note, see the constants of IStepInfo), must have at least numSteps *
+     *            numRows elements
+     */
+    void getStepStates (int channel, int firstStep, int numSteps, int firstRow, int numRows, int [] states);
+
+
     /**
      * Toggle a note at a step.
      *
@@ -289,7 +309,16 @@ public interface INoteClip extends IClip, IPinnable
 
 
     /**
-     * Stop editing the note step, which was started with startEdit.
+     * Start editing several notes at the same time, e.g. a chord. The changes of all notes are
+     * collected and sent together to the DAW.
+     *
+     * @param steps The positions of the notes to edit
+     */
+    void startEdit (List<GridStep> steps);
+
+
+    /**
+     * Stop editing the note steps, which were started with startEdit.
      */
     void stopEdit ();
 
@@ -213,6 +213,14 @@ public interface IChannel extends IItem
     ColorEx getColor ();
 
 
+    /**
+     * Get the ID of the DAW color which is the closest to the color of the channel.
+     *
+     * @return The ID, see DAWColor
+     */
+    String getColorIndex ();
+
+
     /**
      * Set the color of the channel as a RGB value.
      *
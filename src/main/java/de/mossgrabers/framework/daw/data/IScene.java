@@ -22,6 +22,14 @@ public interface IScene extends IItem
     ColorEx getColor ();
 
 
+    /**
+     * Get the ID of the DAW color which is the closest to the color of the scene.
+     *
+     * @return The ID, see DAWColor
+     */
+    String getColorIndex ();
+
+
     /**
      * Set the color of the scene.
      *
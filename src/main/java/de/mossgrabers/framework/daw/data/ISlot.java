@@ -70,6 +70,14 @@ public interface ISlot extends IItem
     ColorEx getColor ();
 
 
+    /**
+     * Get the ID of the DAW color which is the closest to the color of the slot.
+     *
+     * @return The ID, see DAWColor
+     */
+    String getColorIndex ();
+
+
     /**
      * Set the color of the slot.
      *
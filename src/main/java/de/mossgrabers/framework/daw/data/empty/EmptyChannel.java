@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data.empty;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.daw.data.IParameter;
@@ -20,6 +21,9 @@ import de.mossgrabers.framework.observer.IValueObserver;
  */
 public class EmptyChannel extends EmptyItem implements IChannel
 {
+    private static final String COLOR_INDEX = DAWColor.getColorIndex (ColorEx.BLACK);
+
+
     /** {@inheritDoc} */
     @Override
     public ChannelType getType ()
@@ -132,6 +136,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String getColorIndex ()
+    {
+        return COLOR_INDEX;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isMute ()
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data.empty;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.data.IScene;
 
 
@@ -15,8 +16,10 @@ import de.mossgrabers.framework.daw.data.IScene;
  */
 public class EmptyScene extends EmptyItem implements IScene
 {
+    private static final String COLOR_INDEX = DAWColor.getColorIndex (ColorEx.BLACK);
+
     /** The singleton. */
-    public static final IScene INSTANCE = new EmptyScene ();
+    public static final IScene  INSTANCE    = new EmptyScene ();
 
 
     /**
@@ -36,6 +39,14 @@ public class EmptyScene extends EmptyItem implements IScene
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String getColorIndex ()
+    {
+        return COLOR_INDEX;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final ColorEx color)
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data.empty;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.data.ISlot;
 
 
@@ -15,8 +16,10 @@ import de.mossgrabers.framework.daw.data.ISlot;
  */
 public class EmptySlot extends EmptyItem implements ISlot
 {
+    private static final String COLOR_INDEX = DAWColor.getColorIndex (ColorEx.BLACK);
+
     /** The singleton. */
-    public static final ISlot INSTANCE = new EmptySlot ();
+    public static final ISlot   INSTANCE    = new EmptySlot ();
 
 
     /**
@@ -84,6 +87,14 @@ public class EmptySlot extends EmptyItem implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String getColorIndex ()
+    {
+        return COLOR_INDEX;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final ColorEx color)
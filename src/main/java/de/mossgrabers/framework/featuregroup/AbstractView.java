@@ -10,7 +10,6 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
@@ -161,7 +160,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
         {
             if (track == null)
                 return Scales.SCALE_COLOR_OCTAVE;
-            final String c = DAWColor.getColorIndex (track.getColor ());
+            final String c = track.getColorIndex ();
             return c == null ? Scales.SCALE_COLOR_OCTAVE : c;
         }
         return colorID;
@@ -0,0 +1,223 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import de.mossgrabers.framework.utils.LruCache;
+
+import java.util.Objects;
+
+
+/**
+ * Caches the results of fitting a text into a box of a given size. A text width is estimated from
+ * a table of character advances per font and font size, which is only filled once from the
+ * graphics backend. All cached values are keyed by the font of the measurer.
+ * The estimate is used for a binary search of the font size and the result is verified with an
+ * exact measurement.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FontMetricsCache
+{
+    private static final int                   FIRST_CHARACTER = 0x20;
+    private static final int                   LAST_CHARACTER  = 0x7E;
+
+    private final LruCache<FitKey, Double>     fittedSizes     = new LruCache<> (256);
+    private final LruCache<FontKey, double []> advanceTables   = new LruCache<> (32);
+
+
+    /**
+     * Calculates the maximum height of a text which needs to fit into a width. The font size is
+     * increased in steps of 1 starting from the minimum font size.
+     *
+     * @param text The text
+     * @param maxHeight The maximum height of the text (must be larger than the minimum font size)
+     * @param maxWidth The maximum width
+     * @param minimumFontSize The minimum font size to use
+     * @param measurer Measures the text with the graphics backend
+     * @return The font size or -1 if it does not fit with the minimum size
+     */
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize, final ITextMeasurer measurer)
+    {
+        final FitKey key = new FitKey (measurer.getFont (), text, maxHeight, maxWidth, minimumFontSize);
+        final Double cachedSize = this.fittedSizes.get (key);
+        if (cachedSize != null)
+            return cachedSize.doubleValue ();
+
+        final double size = this.fitFontSize (text, maxHeight, maxWidth, minimumFontSize, measurer);
+        this.fittedSizes.put (key, Double.valueOf (size));
+        return size;
+    }
+
+
+    /**
+     * Get the ratio of font size calculations which could be answered from the cache.
+     *
+     * @return The hit rate in the range of [0..1]
+     */
+    public double getHitRate ()
+    {
+        return this.fittedSizes.getHitRate ();
+    }
+
+
+    /**
+     * Get the ratio of width estimations for which the character advances were already cached.
+     *
+     * @return The hit rate in the range of [0..1]
+     */
+    public double getAdvanceTableHitRate ()
+    {
+        return this.advanceTables.getHitRate ();
+    }
+
+
+    private double fitFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize, final ITextMeasurer measurer)
+    {
+        // The number of font sizes which can be tested: minimumFontSize + index < maxHeight
+        final int count = (int) Math.ceil (maxHeight - minimumFontSize);
+        if (count <= 0)
+            return -1;
+
+        // Binary search for the largest size which fits, based on the estimated widths
+        int low = 0;
+        int high = count - 1;
+        int index = 0;
+        while (low <= high)
+        {
+            final int middle = (low + high) >>> 1;
+            if (this.estimateWidth (text, minimumFontSize + middle, measurer) <= maxWidth)
+            {
+                index = middle;
+                low = middle + 1;
+            }
+            else
+                high = middle - 1;
+        }
+
+        // Correct the estimation with the exact width
+        while (index >= 0 && measurer.getTextWidth (text, minimumFontSize + index) > maxWidth)
+            index--;
+        if (index < 0)
+            return -1;
+        while (index + 1 < count && measurer.getTextWidth (text, minimumFontSize + index + 1) <= maxWidth)
+            index++;
+        return minimumFontSize + index;
+    }
+
+
+    private double estimateWidth (final String text, final double fontSize, final ITextMeasurer measurer)
+    {
+        final FontKey key = new FontKey (measurer.getFont (), fontSize);
+        double [] advances = this.advanceTables.get (key);
+        if (advances == null)
+        {
+            advances = new double [LAST_CHARACTER - FIRST_CHARACTER + 1];
+            for (int i = 0; i < advances.length; i++)
+                advances[i] = measurer.getCharacterAdvance ((char) (FIRST_CHARACTER + i), fontSize);
+            this.advanceTables.put (key, advances);
+        }
+
+        double width = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            // Characters which are not in the table need to be measured
+            if (c < FIRST_CHARACTER || c > LAST_CHARACTER)
+                return measurer.getTextWidth (text, fontSize);
+            width += advances[c - FIRST_CHARACTER];
+        }
+        return width;
+    }
+
+
+    /** A font in a specific size. */
+    private static final class FontKey
+    {
+        private final Object font;
+        private final double fontSize;
+        private final int    hash;
+
+
+        FontKey (final Object font, final double fontSize)
+        {
+            this.font = font;
+            this.fontSize = fontSize;
+            this.hash = 31 * Objects.hashCode (font) + Double.hashCode (fontSize);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final FontKey other = (FontKey) obj;
+            return Double.doubleToLongBits (this.fontSize) == Double.doubleToLongBits (other.fontSize) && Objects.equals (this.font, other.font);
+        }
+    }
+
+
+    /** The parameters of a font size calculation. */
+    private static final class FitKey
+    {
+        private final Object font;
+        private final String text;
+        private final double maxHeight;
+        private final double maxWidth;
+        private final double minimumFontSize;
+        private final int    hash;
+
+
+        FitKey (final Object font, final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+        {
+            this.font = font;
+            this.text = text;
+            this.maxHeight = maxHeight;
+            this.maxWidth = maxWidth;
+            this.minimumFontSize = minimumFontSize;
+
+            final int prime = 31;
+            int result = Objects.hashCode (font);
+            result = prime * result + Objects.hashCode (text);
+            result = prime * result + Double.hashCode (maxHeight);
+            result = prime * result + Double.hashCode (maxWidth);
+            this.hash = prime * result + Double.hashCode (minimumFontSize);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final FitKey other = (FitKey) obj;
+            if (Double.doubleToLongBits (this.maxHeight) != Double.doubleToLongBits (other.maxHeight) || Double.doubleToLongBits (this.maxWidth) != Double.doubleToLongBits (other.maxWidth) || Double.doubleToLongBits (this.minimumFontSize) != Double.doubleToLongBits (other.minimumFontSize))
+                return false;
+            return Objects.equals (this.text, other.text) && Objects.equals (this.font, other.font);
+        }
+    }
+}
@@ -40,4 +40,21 @@ public interface IBitmap
      * @param encoder The encoder to use
      */
     void encode (IEncoder encoder);
+
+
+    /**
+     * Encode the pixels of the bitmap into a different format. In contrast to encode the pixels
+     * are provided as integers, which does not require to assemble the color bytes.
+     *
+     * @param encoder The encoder to use
+     */
+    void encodePixels (IPixelEncoder encoder);
+
+
+    /**
+     * Get the cache for font size calculations, e.g. to retrieve its hit rates.
+     *
+     * @return The cache
+     */
+    FontMetricsCache getFontMetricsCache ();
 }
@@ -0,0 +1,27 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import java.nio.IntBuffer;
+
+
+/**
+ * Interface to encode the pixels of a bitmap.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IPixelEncoder
+{
+    /**
+     * Encode the image data.
+     *
+     * @param pixels The pixels line by line, starting at the current position of the buffer. Each
+     *            pixel contains alpha, red, green and blue from the highest to the lowest byte
+     * @param width The width of the image
+     * @param height The height of the image
+     */
+    void encode (IntBuffer pixels, int width, int height);
+}
@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+/**
+ * Interface to the text measurement of a graphics backend.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface ITextMeasurer
+{
+    /**
+     * Get the font which is used for measuring. The measurements are cached per font, therefore
+     * equal fonts need to measure the same widths.
+     *
+     * @return An object which identifies the font, must implement equals and hashCode
+     */
+    Object getFont ();
+
+
+    /**
+     * Measure the width of a text.
+     *
+     * @param text The text to measure
+     * @param fontSize The size of the font
+     * @return The width of the text
+     */
+    double getTextWidth (String text, double fontSize);
+
+
+    /**
+     * Get the horizontal advance of a single character, which is the distance to the start of the
+     * next character.
+     *
+     * @param character The character
+     * @param fontSize The size of the font
+     * @return The advance
+     */
+    double getCharacterAdvance (char character, double fontSize);
+}
@@ -14,6 +14,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which contains the channel settings: Volume, VU, Pan, Mute, Solo and Arm.
@@ -31,22 +33,22 @@ public class ChannelComponent extends ChannelSelectComponent
     /** Edit all settings. */
     public static final int   EDIT_TYPE_ALL        = 3;
 
-    private final double      editType;
-    private final double      volumeValue;
-    private final double      modulatedVolumeValue;
-    private final String      volumeText;
-    private final double      panValue;
-    private final double      modulatedPanValue;
-    private final String      panText;
-    private final double      vuValueLeft;
-    private final double      vuValueRight;
-    private final boolean     isMute;
-    private final boolean     isSolo;
-    private final boolean     isArm;
-    private final double      crossfadeMode;
+    private double            editType;
+    private double            volumeValue;
+    private double            modulatedVolumeValue;
+    private String            volumeText;
+    private double            panValue;
+    private double            modulatedPanValue;
+    private String            panText;
+    private double            vuValueLeft;
+    private double            vuValueRight;
+    private boolean           isMute;
+    private boolean           isSolo;
+    private boolean           isArm;
+    private double            crossfadeMode;
 
-    private final boolean     isActive;
-    private final ChannelType type;
+    private boolean           isActive;
+    private ChannelType       type;
 
 
     /**
@@ -96,6 +98,102 @@ public class ChannelComponent extends ChannelSelectComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given component.
+     *
+     * @param component The component to copy
+     */
+    protected ChannelComponent (final ChannelComponent component)
+    {
+        super (component);
+
+        this.type = component.type;
+        this.isActive = component.isActive;
+
+        this.editType = component.editType;
+        this.volumeValue = component.volumeValue;
+        this.modulatedVolumeValue = component.modulatedVolumeValue;
+        this.volumeText = component.volumeText;
+        this.panValue = component.panValue;
+        this.modulatedPanValue = component.modulatedPanValue;
+        this.panText = component.panText;
+        this.vuValueLeft = component.vuValueLeft;
+        this.vuValueRight = component.vuValueRight;
+        this.isMute = component.isMute;
+        this.isSolo = component.isSolo;
+        this.isArm = component.isArm;
+        this.crossfadeMode = component.crossfadeMode;
+    }
+
+
+    /**
+     * Update the values of the component.
+     *
+     * @param editType What to edit, 0 = Volume, 1 = Pan, 2 = Crossfade Mode
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param type The type of the track
+     * @param volumeValue The value of the volume
+     * @param modulatedVolumeValue The modulated value of the volume, -1 if not modulated
+     * @param volumeText The textual form of the volumes value
+     * @param panValue The value of the panorama
+     * @param modulatedPanValue The modulated value of the panorama, -1 if not modulated
+     * @param panText The textual form of the panorama
+     * @param vuValueLeft The value of the VU of the left channel
+     * @param vuValueRight The value of the VU of the right channel
+     * @param isMute True if muted
+     * @param isSolo True if soloed
+     * @param isArm True if recording is armed
+     * @param isActive True if channel is activated
+     * @param crossfadeMode The cross-fader mode: 0 = A, 1 = AB, B = 2, -1 turns it off
+     */
+    public void update (final double editType, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final ChannelType type, final double volumeValue, final double modulatedVolumeValue, final String volumeText, final double panValue, final double modulatedPanValue, final String panText, final double vuValueLeft, final double vuValueRight, final boolean isMute, final boolean isSolo, final boolean isArm, final boolean isActive, final double crossfadeMode)
+    {
+        this.update (type, menuName, isMenuSelected, name, color, isSelected, isActive);
+
+        if (this.editType == editType && this.volumeValue == volumeValue && this.modulatedVolumeValue == modulatedVolumeValue && this.panValue == panValue && this.modulatedPanValue == modulatedPanValue && this.vuValueLeft == vuValueLeft && this.vuValueRight == vuValueRight && this.isMute == isMute && this.isSolo == isSolo && this.isArm == isArm && this.crossfadeMode == crossfadeMode && this.isActive == isActive && this.type == type && Objects.equals (this.volumeText, volumeText) && Objects.equals (this.panText, panText))
+            return;
+
+        this.type = type;
+        this.isActive = isActive;
+
+        this.editType = editType;
+        this.volumeValue = volumeValue;
+        this.modulatedVolumeValue = modulatedVolumeValue;
+        this.volumeText = volumeText;
+        this.panValue = panValue;
+        this.modulatedPanValue = modulatedPanValue;
+        this.panText = panText;
+        this.vuValueLeft = vuValueLeft;
+        this.vuValueRight = vuValueRight;
+        this.isMute = isMute;
+        this.isSolo = isSolo;
+        this.isArm = isArm;
+        this.crossfadeMode = crossfadeMode;
+        this.isDirty = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IComponent createSnapshot ()
+    {
+        return new ChannelComponent (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTileCacheable ()
+    {
+        // The fader and VU values change on nearly every frame while playing, a cached tile would hardly be used again
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
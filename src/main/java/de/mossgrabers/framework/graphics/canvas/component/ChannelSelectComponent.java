@@ -6,6 +6,7 @@ package de.mossgrabers.framework.graphics.canvas.component;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
 import java.util.EnumMap;
 
@@ -48,6 +49,42 @@ public class ChannelSelectComponent extends MenuComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given component.
+     *
+     * @param component The component to copy
+     */
+    protected ChannelSelectComponent (final ChannelSelectComponent component)
+    {
+        super (component);
+    }
+
+
+    /**
+     * Update the values of the component.
+     *
+     * @param type The type of the track
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param isActive True if channel is activated
+     */
+    public void update (final ChannelType type, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final boolean isActive)
+    {
+        this.updateMenu (menuName, isMenuSelected, name, getIcon (type), color, isSelected, isActive, LabelLayout.SEPARATE_COLOR);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IComponent createSnapshot ()
+    {
+        return new ChannelSelectComponent (this);
+    }
+
+
     /**
      * Get the icon for the channel type.
      *
@@ -20,4 +20,29 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Can the rendered pixels of the component be cached? This requires that the component does
+     * not draw further than the separator area into the neighbouring components.
+     *
+     * @return True if it can be cached
+     */
+    default boolean isTileCacheable ()
+    {
+        return false;
+    }
+
+
+    /**
+     * Create a copy of the component which is not affected by later updates of the component. The
+     * copy identifies the cached pixels, therefore components which can be cached and updated need
+     * to override it.
+     *
+     * @return The copy
+     */
+    default IComponent createSnapshot ()
+    {
+        return this;
+    }
 }
@@ -0,0 +1,27 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+/**
+ * A component which is kept between frames and updated in place instead of being created again.
+ * The component is flagged as dirty when one of its values has actually changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IUpdateableComponent extends IComponent
+{
+    /**
+     * Has one of the values of the component changed since the last call to clearDirty?
+     *
+     * @return True if the component needs to be drawn again
+     */
+    boolean isDirty ();
+
+
+    /**
+     * Reset the dirty flag, e.g. after the component was drawn.
+     */
+    void clearDirty ();
+}
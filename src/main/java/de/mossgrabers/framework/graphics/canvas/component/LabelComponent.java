@@ -14,6 +14,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Objects;
+
 
 /**
  * A component which draws a label. A label is a text and an optional icon.
@@ -34,13 +36,13 @@ public class LabelComponent implements IComponent
     }
 
 
-    private final String      text;
-    private final String      icon;
-    private final boolean     isSelected;
-    private final boolean     isActive;
-    private final LabelLayout layout;
+    private String      text;
+    private String      icon;
+    private boolean     isSelected;
+    private boolean     isActive;
+    private LabelLayout layout;
 
-    private ColorEx           backgroundColor;
+    private ColorEx     backgroundColor;
 
 
     /**
@@ -65,6 +67,43 @@ public class LabelComponent implements IComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given label.
+     *
+     * @param label The label to copy
+     */
+    public LabelComponent (final LabelComponent label)
+    {
+        this (label.text, label.icon, label.backgroundColor, label.isSelected, label.isActive, label.layout);
+    }
+
+
+    /**
+     * Update the values of the label.
+     *
+     * @param text The text of the label
+     * @param icon The optional icon
+     * @param color The background color
+     * @param isSelected True if the component should be drawn in selected state
+     * @param isActive True if the component should be displayed as active
+     * @param layout The layout to draw the component
+     * @return True if one of the values has changed
+     */
+    public boolean update (final String text, final String icon, final ColorEx color, final boolean isSelected, final boolean isActive, final LabelLayout layout)
+    {
+        if (this.isSelected == isSelected && this.isActive == isActive && this.layout == layout && Objects.equals (this.text, text) && Objects.equals (this.icon, icon) && Objects.equals (this.backgroundColor, color))
+            return false;
+
+        this.text = text;
+        this.icon = icon;
+        this.backgroundColor = color;
+        this.isSelected = isSelected;
+        this.isActive = isActive;
+        this.layout = layout;
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
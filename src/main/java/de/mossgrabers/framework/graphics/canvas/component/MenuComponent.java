@@ -14,10 +14,11 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class MenuComponent implements IComponent
+public class MenuComponent implements IUpdateableComponent
 {
     protected final LabelComponent header;
     protected final LabelComponent footer;
+    protected boolean              isDirty = true;
 
 
     /**
@@ -56,6 +57,71 @@ public class MenuComponent implements IComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given component.
+     *
+     * @param component The component to copy
+     */
+    protected MenuComponent (final MenuComponent component)
+    {
+        this.header = new LabelComponent (component.header);
+        this.footer = new LabelComponent (component.footer);
+    }
+
+
+    /**
+     * Update the values of the menu and the channel label.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param icon The icon to use
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param isActive True if channel is activated
+     * @param lowerLayout The layout for the lower label
+     */
+    protected void updateMenu (final String menuName, final boolean isMenuSelected, final String name, final String icon, final ColorEx color, final boolean isSelected, final boolean isActive, final LabelLayout lowerLayout)
+    {
+        if (this.header.update (menuName, null, null, isMenuSelected, true, LabelLayout.SMALL_HEADER))
+            this.isDirty = true;
+        if (this.footer.update (name, icon, color, isSelected, isActive, lowerLayout))
+            this.isDirty = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDirty ()
+    {
+        return this.isDirty;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearDirty ()
+    {
+        this.isDirty = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTileCacheable ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IComponent createSnapshot ()
+    {
+        return new MenuComponent (this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
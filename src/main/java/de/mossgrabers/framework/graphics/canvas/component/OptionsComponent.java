@@ -12,6 +12,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which can display on option on top and on the bottom of the element. In
@@ -20,14 +22,15 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class OptionsComponent implements IComponent
+public class OptionsComponent implements IUpdateableComponent
 {
     private final LabelComponent header;
     private final LabelComponent footer;
 
-    private final String         headerBottom;
-    private final String         headerTop;
+    private String               headerBottom;
+    private String               headerTop;
     private boolean              isBottomHeaderSelected;
+    private boolean              isDirty = true;
 
 
     /**
@@ -56,6 +59,87 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given component.
+     *
+     * @param component The component to copy
+     */
+    protected OptionsComponent (final OptionsComponent component)
+    {
+        this.header = new LabelComponent (component.header);
+        this.footer = new LabelComponent (component.footer);
+
+        this.headerTop = component.headerTop;
+        this.headerBottom = component.headerBottom;
+        this.isBottomHeaderSelected = component.isBottomHeaderSelected;
+    }
+
+
+    /**
+     * Update the values of the component.
+     *
+     * @param headerTop A header for the top menu options (may span multiple grids), may be null
+     * @param menuTopName A name for the to menu, may be null
+     * @param isMenuTopSelected Is the top menu selected?
+     * @param menuTopColor The color to use for the background top menu, may be null
+     * @param headerBottom A header for the bottom menu options (may span multiple grids), may be
+     *            null
+     * @param menuBottomName A name for the bottom menu, may be null
+     * @param isMenuBottomSelected Is the bottom menu selected?
+     * @param menuBottomColor The color to use for the background bottom menu, may be null
+     * @param useSmallTopMenu Draw the small version of the top menu if true
+     * @param isBottomHeaderSelected True to draw the lower header selected
+     */
+    public void update (final String headerTop, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottom, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
+    {
+        if (this.header.update (menuTopName, null, menuTopColor, isMenuTopSelected, true, useSmallTopMenu ? LabelLayout.SMALL_HEADER : LabelLayout.PLAIN))
+            this.isDirty = true;
+        if (this.footer.update (menuBottomName, null, menuBottomColor, isMenuBottomSelected, true, LabelLayout.PLAIN))
+            this.isDirty = true;
+
+        if (this.isBottomHeaderSelected == isBottomHeaderSelected && Objects.equals (this.headerTop, headerTop) && Objects.equals (this.headerBottom, headerBottom))
+            return;
+
+        this.headerTop = headerTop;
+        this.headerBottom = headerBottom;
+        this.isBottomHeaderSelected = isBottomHeaderSelected;
+        this.isDirty = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDirty ()
+    {
+        return this.isDirty;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearDirty ()
+    {
+        this.isDirty = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IComponent createSnapshot ()
+    {
+        return new OptionsComponent (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTileCacheable ()
+    {
+        // The header texts are not clipped and can reach into the next elements
+        return (this.headerTop == null || this.headerTop.isEmpty ()) && (this.headerBottom == null || this.headerBottom.isEmpty ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
@@ -14,6 +14,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which contains a fader and text for a value.
@@ -24,11 +26,11 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  */
 public class ParameterComponent extends MenuComponent
 {
-    private final String  paramName;
-    private final String  paramValueText;
-    private final int     paramValue;
-    private int           modulatedParamValue;
-    private final boolean isTouched;
+    private String  paramName;
+    private String  paramValueText;
+    private int     paramValue;
+    private int     modulatedParamValue;
+    private boolean isTouched;
 
 
     /**
@@ -127,6 +129,72 @@ public class ParameterComponent extends MenuComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given component.
+     *
+     * @param component The component to copy
+     */
+    protected ParameterComponent (final ParameterComponent component)
+    {
+        super (component);
+
+        this.paramName = component.paramName;
+        this.paramValue = component.paramValue;
+        this.modulatedParamValue = component.modulatedParamValue;
+        this.paramValueText = component.paramValueText;
+        this.isTouched = component.isTouched;
+    }
+
+
+    /**
+     * Update the values of the component.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param icon The icon of the device or channel, may be null
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param paramName The name of the parameter
+     * @param paramValue The value of the fader
+     * @param modulatedParamValue The modulated value of the fader, -1 if not modulated
+     * @param paramValueText The textual form of the faders value
+     * @param isTouched True if touched
+     * @param lowerLayout The layout for the lower label
+     */
+    public void update (final String menuName, final boolean isMenuSelected, final String name, final String icon, final ColorEx color, final boolean isSelected, final String paramName, final int paramValue, final int modulatedParamValue, final String paramValueText, final boolean isTouched, final LabelLayout lowerLayout)
+    {
+        this.updateMenu (menuName, isMenuSelected, name, icon, color, isSelected, true, lowerLayout);
+
+        if (this.paramValue == paramValue && this.modulatedParamValue == modulatedParamValue && this.isTouched == isTouched && Objects.equals (this.paramName, paramName) && Objects.equals (this.paramValueText, paramValueText))
+            return;
+
+        this.paramName = paramName;
+        this.paramValue = paramValue;
+        this.modulatedParamValue = modulatedParamValue;
+        this.paramValueText = paramValueText;
+        this.isTouched = isTouched;
+        this.isDirty = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IComponent createSnapshot ()
+    {
+        return new ParameterComponent (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTileCacheable ()
+    {
+        // The parameter value changes on nearly every frame while automated or modulated, a cached tile would hardly be used again
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
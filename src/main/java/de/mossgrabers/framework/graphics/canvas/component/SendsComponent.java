@@ -52,6 +52,38 @@ public class SendsComponent extends ChannelSelectComponent
     }
 
 
+    /**
+     * Constructor. Creates a copy of the given component.
+     *
+     * @param component The component to copy
+     */
+    protected SendsComponent (final SendsComponent component)
+    {
+        super (component);
+
+        this.sendData = component.sendData;
+        this.isExMode = component.isExMode;
+        this.isSendActive = component.isSendActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IComponent createSnapshot ()
+    {
+        return new SendsComponent (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTileCacheable ()
+    {
+        // The send values change on nearly every frame while automated or modulated, a cached tile would hardly be used again
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
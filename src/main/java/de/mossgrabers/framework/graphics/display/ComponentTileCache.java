@@ -0,0 +1,253 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Stores the rendered pixels of the columns of a graphics display. Since a component might draw
+ * into the separator area of its neighbours, a tile is identified by the values of the component and
+ * its two neighbours. The size of all stored tiles is limited by a memory budget, if
+ * it is exceeded the least recently used tiles are removed. Not thread safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ComponentTileCache
+{
+    private static final int            BYTES_PER_PIXEL = 4;
+
+    private final Map<TileKey, byte []> tiles           = new LinkedHashMap<> (16, 0.75f, true);
+    private final long                  memoryBudget;
+    private long                        usedMemory      = 0;
+    private long                        hits            = 0;
+    private long                        misses          = 0;
+    private long                        evictions       = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param memoryBudget The maximum number of bytes to use for all tiles
+     */
+    public ComponentTileCache (final long memoryBudget)
+    {
+        this.memoryBudget = memoryBudget;
+    }
+
+
+    /**
+     * Create the key for looking up a tile. The key references the given components, therefore it
+     * must not be used anymore after one of them was updated.
+     *
+     * @param previous The component left of the tile, might be null
+     * @param component The component of the tile
+     * @param next The component right of the tile, might be null
+     * @param width The width of the tile
+     * @param height The height of the tile
+     * @return The key
+     */
+    public static TileKey createKey (final IComponent previous, final IComponent component, final IComponent next, final int width, final int height)
+    {
+        return new TileKey (previous, component, next, width, height);
+    }
+
+
+    /**
+     * Get the pixels of a tile.
+     *
+     * @param key The key of the tile
+     * @return The pixels or null if not stored
+     */
+    public byte [] get (final TileKey key)
+    {
+        final byte [] pixels = this.tiles.get (key);
+        if (pixels == null)
+            this.misses++;
+        else
+            this.hits++;
+        return pixels;
+    }
+
+
+    /**
+     * Copy a tile from an image and store it.
+     *
+     * @param key The key of the tile
+     * @param imageBuffer The image data (4 bytes per pixel)
+     * @param imageWidth The width of the image
+     * @param left The left edge of the tile in the image
+     */
+    public void put (final TileKey key, final ByteBuffer imageBuffer, final int imageWidth, final int left)
+    {
+        final int rowSize = key.width * BYTES_PER_PIXEL;
+        final int size = rowSize * key.height;
+        if (size > this.memoryBudget || this.tiles.containsKey (key))
+            return;
+
+        final byte [] pixels = new byte [size];
+        final ByteBuffer source = imageBuffer.duplicate ();
+        for (int y = 0; y < key.height; y++)
+        {
+            source.position ((y * imageWidth + left) * BYTES_PER_PIXEL);
+            source.get (pixels, y * rowSize, rowSize);
+        }
+
+        final Iterator<byte []> iterator = this.tiles.values ().iterator ();
+        while (this.usedMemory + size > this.memoryBudget && iterator.hasNext ())
+        {
+            this.usedMemory -= iterator.next ().length;
+            iterator.remove ();
+            this.evictions++;
+        }
+
+        // Store a key which is not affected by updates of the components
+        this.tiles.put (key.createSnapshot (), pixels);
+        this.usedMemory += size;
+    }
+
+
+    /**
+     * Copy the pixels of a tile into an image.
+     *
+     * @param key The key of the tile
+     * @param pixels The pixels of the tile
+     * @param imageBuffer The image data (4 bytes per pixel)
+     * @param imageWidth The width of the image
+     * @param left The left edge of the tile in the image
+     */
+    public static void blit (final TileKey key, final byte [] pixels, final ByteBuffer imageBuffer, final int imageWidth, final int left)
+    {
+        final int rowSize = key.width * BYTES_PER_PIXEL;
+        final ByteBuffer destination = imageBuffer.duplicate ();
+        for (int y = 0; y < key.height; y++)
+        {
+            destination.position ((y * imageWidth + left) * BYTES_PER_PIXEL);
+            destination.put (pixels, y * rowSize, rowSize);
+        }
+    }
+
+
+    /**
+     * Remove all tiles.
+     */
+    public void clear ()
+    {
+        this.tiles.clear ();
+        this.usedMemory = 0;
+    }
+
+
+    /**
+     * Get the number of lookups which found a tile.
+     *
+     * @return The number of hits
+     */
+    public long getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of lookups which did not find a tile.
+     *
+     * @return The number of misses
+     */
+    public long getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Get the number of tiles which were removed to stay in the memory budget.
+     *
+     * @return The number of removed tiles
+     */
+    public long getEvictions ()
+    {
+        return this.evictions;
+    }
+
+
+    /**
+     * Get the number of bytes used by all stored tiles.
+     *
+     * @return The number of bytes
+     */
+    public long getUsedMemory ()
+    {
+        return this.usedMemory;
+    }
+
+
+    private static IComponent createSnapshot (final IComponent component)
+    {
+        return component == null ? null : component.createSnapshot ();
+    }
+
+
+    /** Identifies a tile. */
+    public static final class TileKey
+    {
+        private final IComponent previous;
+        private final IComponent component;
+        private final IComponent next;
+        private final int        width;
+        private final int        height;
+        private final int        hash;
+
+
+        TileKey (final IComponent previous, final IComponent component, final IComponent next, final int width, final int height)
+        {
+            this.previous = previous;
+            this.component = component;
+            this.next = next;
+            this.width = width;
+            this.height = height;
+
+            final int prime = 31;
+            int result = Objects.hashCode (component);
+            result = prime * result + Objects.hashCode (previous);
+            result = prime * result + Objects.hashCode (next);
+            result = prime * result + width;
+            this.hash = prime * result + height;
+        }
+
+
+        TileKey createSnapshot ()
+        {
+            return new TileKey (ComponentTileCache.createSnapshot (this.previous), ComponentTileCache.createSnapshot (this.component), ComponentTileCache.createSnapshot (this.next), this.width, this.height);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final TileKey other = (TileKey) obj;
+            return this.hash == other.hash && this.width == other.width && this.height == other.height && Objects.equals (this.component, other.component) && Objects.equals (this.previous, other.previous) && Objects.equals (this.next, other.next);
+        }
+    }
+}
@@ -0,0 +1,628 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.software;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+
+/**
+ * Loads the SVG images of the resources into software images. Supports the subset of SVG which is
+ * used by the icons: paths, polygons and basic shapes, which are filled and stroked with plain
+ * colors, in groups with transformations.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class SVGImageLoader
+{
+    private static final String IMAGE_FOLDER = "/images/";
+
+
+    /**
+     * Private due to helper class.
+     */
+    private SVGImageLoader ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Load a SVG image from the image resources.
+     *
+     * @param imageName The name of the image, relative to the image folder
+     * @param scale The scale factor
+     * @return The image
+     * @throws IOException Could not find or parse the image
+     */
+    public static SoftwareImage load (final String imageName, final double scale) throws IOException
+    {
+        try (final InputStream in = SVGImageLoader.class.getResourceAsStream (IMAGE_FOLDER + imageName))
+        {
+            if (in == null)
+                throw new IOException ("Image not found: " + imageName);
+            return load (in, scale);
+        }
+    }
+
+
+    /**
+     * Load a SVG image.
+     *
+     * @param in The stream to read the SVG document from
+     * @param scale The scale factor
+     * @return The image
+     * @throws IOException Could not read or parse the image
+     */
+    public static SoftwareImage load (final InputStream in, final double scale) throws IOException
+    {
+        final Element root;
+        try
+        {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance ();
+            factory.setFeature (XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature ("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            final DocumentBuilder builder = factory.newDocumentBuilder ();
+            root = builder.parse (in).getDocumentElement ();
+        }
+        catch (final ParserConfigurationException | SAXException ex)
+        {
+            throw new IOException ("Could not parse SVG image.", ex);
+        }
+
+        final double width = parseLength (root.getAttribute ("width"));
+        final double height = parseLength (root.getAttribute ("height"));
+        final BufferedImage image = new BufferedImage (Math.max (1, (int) Math.ceil (width * scale)), Math.max (1, (int) Math.ceil (height * scale)), BufferedImage.TYPE_INT_ARGB);
+
+        final AffineTransform transform = AffineTransform.getScaleInstance (scale, scale);
+        final double [] viewBox = parseNumbers (root.getAttribute ("viewBox"));
+        if (viewBox.length == 4 && viewBox[2] > 0 && viewBox[3] > 0)
+        {
+            transform.scale (width / viewBox[2], height / viewBox[3]);
+            transform.translate (-viewBox[0], -viewBox[1]);
+        }
+
+        final Graphics2D gc = image.createGraphics ();
+        try
+        {
+            gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            gc.setRenderingHint (RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            drawChildren (gc, root, transform, new Style ());
+        }
+        finally
+        {
+            gc.dispose ();
+        }
+        return new SoftwareImage (image);
+    }
+
+
+    private static void drawChildren (final Graphics2D gc, final Element parent, final AffineTransform transform, final Style style)
+    {
+        final NodeList children = parent.getChildNodes ();
+        for (int i = 0; i < children.getLength (); i++)
+        {
+            final Node node = children.item (i);
+            if (node.getNodeType () == Node.ELEMENT_NODE)
+                drawElement (gc, (Element) node, transform, style);
+        }
+    }
+
+
+    private static void drawElement (final Graphics2D gc, final Element element, final AffineTransform parentTransform, final Style parentStyle)
+    {
+        final Style style = parentStyle.derive (element);
+        if (!style.isVisible)
+            return;
+
+        final AffineTransform transform = new AffineTransform (parentTransform);
+        transform.concatenate (parseTransform (element.getAttribute ("transform")));
+
+        final Shape shape;
+        switch (element.getTagName ())
+        {
+            case "g":
+            case "svg":
+                drawChildren (gc, element, transform, style);
+                return;
+
+            case "path":
+                shape = parsePath (element.getAttribute ("d"));
+                break;
+
+            case "polygon":
+            case "polyline":
+                shape = parsePolygon (element.getAttribute ("points"), "polygon".equals (element.getTagName ()));
+                break;
+
+            case "rect":
+                shape = new Rectangle2D.Double (parseLength (element.getAttribute ("x")), parseLength (element.getAttribute ("y")), parseLength (element.getAttribute ("width")), parseLength (element.getAttribute ("height")));
+                break;
+
+            case "circle":
+                final double r = parseLength (element.getAttribute ("r"));
+                shape = new Ellipse2D.Double (parseLength (element.getAttribute ("cx")) - r, parseLength (element.getAttribute ("cy")) - r, 2 * r, 2 * r);
+                break;
+
+            case "ellipse":
+                final double rx = parseLength (element.getAttribute ("rx"));
+                final double ry = parseLength (element.getAttribute ("ry"));
+                shape = new Ellipse2D.Double (parseLength (element.getAttribute ("cx")) - rx, parseLength (element.getAttribute ("cy")) - ry, 2 * rx, 2 * ry);
+                break;
+
+            case "line":
+                shape = new Line2D.Double (parseLength (element.getAttribute ("x1")), parseLength (element.getAttribute ("y1")), parseLength (element.getAttribute ("x2")), parseLength (element.getAttribute ("y2")));
+                break;
+
+            default:
+                // Metadata, definitions and unsupported elements
+                return;
+        }
+
+        if (shape instanceof Path2D)
+            ((Path2D) shape).setWindingRule (style.isEvenOdd ? Path2D.WIND_EVEN_ODD : Path2D.WIND_NON_ZERO);
+
+        final Shape transformedShape = transform.createTransformedShape (shape);
+        if (style.fill != null)
+        {
+            gc.setColor (style.getColor (style.fill, style.fillOpacity));
+            gc.fill (transformedShape);
+        }
+        if (style.stroke != null)
+        {
+            gc.setColor (style.getColor (style.stroke, style.strokeOpacity));
+            gc.setStroke (new BasicStroke ((float) (style.strokeWidth * getScale (transform))));
+            gc.draw (transformedShape);
+        }
+    }
+
+
+    private static double getScale (final AffineTransform transform)
+    {
+        return Math.sqrt (Math.abs (transform.getDeterminant ()));
+    }
+
+
+    private static AffineTransform parseTransform (final String text)
+    {
+        final AffineTransform transform = new AffineTransform ();
+        int start = 0;
+        while (true)
+        {
+            final int open = text.indexOf ('(', start);
+            final int close = text.indexOf (')', open + 1);
+            if (open < 0 || close < 0)
+                return transform;
+
+            final String name = text.substring (start, open).replace (',', ' ').trim ();
+            final double [] v = parseNumbers (text.substring (open + 1, close));
+            switch (name)
+            {
+                case "matrix":
+                    if (v.length == 6)
+                        transform.concatenate (new AffineTransform (v));
+                    break;
+                case "translate":
+                    if (v.length > 0)
+                        transform.translate (v[0], v.length > 1 ? v[1] : 0);
+                    break;
+                case "scale":
+                    if (v.length > 0)
+                        transform.scale (v[0], v.length > 1 ? v[1] : v[0]);
+                    break;
+                case "rotate":
+                    if (v.length > 0)
+                        transform.rotate (Math.toRadians (v[0]), v.length > 2 ? v[1] : 0, v.length > 2 ? v[2] : 0);
+                    break;
+                default:
+                    // Unsupported transformation
+                    break;
+            }
+            start = close + 1;
+        }
+    }
+
+
+    private static Shape parsePolygon (final String points, final boolean isClosed)
+    {
+        final double [] v = parseNumbers (points);
+        final Path2D.Double path = new Path2D.Double ();
+        for (int i = 0; i + 1 < v.length; i += 2)
+        {
+            if (i == 0)
+                path.moveTo (v[i], v[i + 1]);
+            else
+                path.lineTo (v[i], v[i + 1]);
+        }
+        if (isClosed && v.length >= 2)
+            path.closePath ();
+        return path;
+    }
+
+
+    /**
+     * Parse the path data. Supports move, line, horizontal, vertical, cubic and quadratic curve and
+     * close commands in absolute and relative form.
+     *
+     * @param data The path data
+     * @return The path
+     */
+    private static Shape parsePath (final String data)
+    {
+        final Path2D.Double path = new Path2D.Double ();
+        final PathTokenizer tokenizer = new PathTokenizer (data);
+
+        double x = 0;
+        double y = 0;
+        double startX = 0;
+        double startY = 0;
+        // The second control point of the previous curve for the smooth commands
+        double controlX = 0;
+        double controlY = 0;
+        char previous = ' ';
+        char command = ' ';
+
+        while (tokenizer.hasMore ())
+        {
+            if (tokenizer.isCommand ())
+                command = tokenizer.nextCommand ();
+            else if (command == ' ')
+                break;
+
+            final boolean isRelative = Character.isLowerCase (command);
+            final double ox = isRelative ? x : 0;
+            final double oy = isRelative ? y : 0;
+
+            switch (Character.toUpperCase (command))
+            {
+                case 'M':
+                    x = ox + tokenizer.nextNumber ();
+                    y = oy + tokenizer.nextNumber ();
+                    path.moveTo (x, y);
+                    startX = x;
+                    startY = y;
+                    // Following coordinate pairs are lines
+                    command = isRelative ? 'l' : 'L';
+                    break;
+
+                case 'L':
+                    x = ox + tokenizer.nextNumber ();
+                    y = oy + tokenizer.nextNumber ();
+                    path.lineTo (x, y);
+                    break;
+
+                case 'H':
+                    x = ox + tokenizer.nextNumber ();
+                    path.lineTo (x, y);
+                    break;
+
+                case 'V':
+                    y = oy + tokenizer.nextNumber ();
+                    path.lineTo (x, y);
+                    break;
+
+                case 'C':
+                case 'S':
+                    final double x1;
+                    final double y1;
+                    if (Character.toUpperCase (command) == 'C')
+                    {
+                        x1 = ox + tokenizer.nextNumber ();
+                        y1 = oy + tokenizer.nextNumber ();
+                    }
+                    else
+                    {
+                        final boolean isSmooth = "CcSs".indexOf (previous) >= 0;
+                        x1 = isSmooth ? 2 * x - controlX : x;
+                        y1 = isSmooth ? 2 * y - controlY : y;
+                    }
+                    controlX = ox + tokenizer.nextNumber ();
+                    controlY = oy + tokenizer.nextNumber ();
+                    x = ox + tokenizer.nextNumber ();
+                    y = oy + tokenizer.nextNumber ();
+                    path.curveTo (x1, y1, controlX, controlY, x, y);
+                    break;
+
+                case 'Q':
+                case 'T':
+                    if (Character.toUpperCase (command) == 'Q')
+                    {
+                        controlX = ox + tokenizer.nextNumber ();
+                        controlY = oy + tokenizer.nextNumber ();
+                    }
+                    else
+                    {
+                        final boolean isSmooth = "QqTt".indexOf (previous) >= 0;
+                        controlX = isSmooth ? 2 * x - controlX : x;
+                        controlY = isSmooth ? 2 * y - controlY : y;
+                    }
+                    x = ox + tokenizer.nextNumber ();
+                    y = oy + tokenizer.nextNumber ();
+                    path.quadTo (controlX, controlY, x, y);
+                    break;
+
+                case 'Z':
+                    path.closePath ();
+                    x = startX;
+                    y = startY;
+                    break;
+
+                default:
+                    // Unsupported command, e.g. arcs
+                    return path;
+            }
+            previous = command;
+        }
+        return path;
+    }
+
+
+    private static double parseLength (final String text)
+    {
+        final double [] values = parseNumbers (text);
+        return values.length == 0 ? 0 : values[0];
+    }
+
+
+    private static double [] parseNumbers (final String text)
+    {
+        final PathTokenizer tokenizer = new PathTokenizer (text);
+        double [] values = new double [8];
+        int count = 0;
+        while (tokenizer.hasMore () && !tokenizer.isCommand ())
+        {
+            if (count == values.length)
+                values = Arrays.copyOf (values, count * 2);
+            values[count++] = tokenizer.nextNumber ();
+        }
+        return Arrays.copyOf (values, count);
+    }
+
+
+    /**
+     * Splits path data and number lists into commands and numbers.
+     */
+    private static class PathTokenizer
+    {
+        private final String text;
+        private int          position = 0;
+
+
+        PathTokenizer (final String text)
+        {
+            this.text = text == null ? "" : text;
+            this.skipSeparators ();
+        }
+
+
+        boolean hasMore ()
+        {
+            return this.position < this.text.length ();
+        }
+
+
+        boolean isCommand ()
+        {
+            final char c = this.text.charAt (this.position);
+            return Character.isLetter (c) && c != 'e' && c != 'E';
+        }
+
+
+        char nextCommand ()
+        {
+            final char c = this.text.charAt (this.position++);
+            this.skipSeparators ();
+            return c;
+        }
+
+
+        double nextNumber ()
+        {
+            final int start = this.position;
+            final int length = this.text.length ();
+            int pos = start;
+            if (pos < length && (this.text.charAt (pos) == '-' || this.text.charAt (pos) == '+'))
+                pos++;
+            boolean hasDot = false;
+            while (pos < length)
+            {
+                final char c = this.text.charAt (pos);
+                if (Character.isDigit (c))
+                    pos++;
+                else if (c == '.' && !hasDot)
+                {
+                    hasDot = true;
+                    pos++;
+                }
+                else if ((c == 'e' || c == 'E') && pos + 1 < length)
+                {
+                    pos++;
+                    if (this.text.charAt (pos) == '-' || this.text.charAt (pos) == '+')
+                        pos++;
+                }
+                else
+                    break;
+            }
+
+            if (pos == start)
+            {
+                // Not a number, e.g. a unit
+                this.position = length;
+                return 0;
+            }
+
+            this.position = pos;
+            final double value = Double.parseDouble (this.text.substring (start, pos));
+            this.skipSeparators ();
+            return value;
+        }
+
+
+        private void skipSeparators ()
+        {
+            while (this.position < this.text.length ())
+            {
+                final char c = this.text.charAt (this.position);
+                if (c != ',' && !Character.isWhitespace (c))
+                    return;
+                this.position++;
+            }
+        }
+    }
+
+
+    /**
+     * The presentation attributes of an element which are inherited by its children.
+     */
+    private static class Style
+    {
+        private Color   fill          = Color.BLACK;
+        private Color   stroke        = null;
+        private double  fillOpacity   = 1;
+        private double  strokeOpacity = 1;
+        private double  opacity       = 1;
+        private double  strokeWidth   = 1;
+        private boolean isEvenOdd     = false;
+        private boolean isVisible     = true;
+
+
+        Style derive (final Element element)
+        {
+            final Style style = new Style ();
+            style.fill = this.fill;
+            style.stroke = this.stroke;
+            style.fillOpacity = this.fillOpacity;
+            style.strokeOpacity = this.strokeOpacity;
+            style.strokeWidth = this.strokeWidth;
+            style.isEvenOdd = this.isEvenOdd;
+            style.opacity = this.opacity;
+
+            // Presentation attributes are overridden by the style attribute
+            for (final String name: new String []
+            {
+                "fill",
+                "stroke",
+                "fill-opacity",
+                "stroke-opacity",
+                "stroke-width",
+                "fill-rule",
+                "opacity",
+                "display"
+            })
+            {
+                if (element.hasAttribute (name))
+                    style.set (name, element.getAttribute (name));
+            }
+
+            for (final String declaration: element.getAttribute ("style").split (";"))
+            {
+                final int colon = declaration.indexOf (':');
+                if (colon > 0)
+                    style.set (declaration.substring (0, colon).trim (), declaration.substring (colon + 1).trim ());
+            }
+            return style;
+        }
+
+
+        Color getColor (final Color color, final double colorOpacity)
+        {
+            final double alpha = colorOpacity * this.opacity;
+            if (alpha >= 1)
+                return color;
+            return new Color (color.getRed (), color.getGreen (), color.getBlue (), (int) Math.round (Math.max (0, alpha) * 255));
+        }
+
+
+        private void set (final String name, final String value)
+        {
+            switch (name)
+            {
+                case "fill":
+                    this.fill = parseColor (value);
+                    break;
+                case "stroke":
+                    this.stroke = parseColor (value);
+                    break;
+                case "fill-opacity":
+                    this.fillOpacity = parseLength (value);
+                    break;
+                case "stroke-opacity":
+                    this.strokeOpacity = parseLength (value);
+                    break;
+                case "opacity":
+                    this.opacity *= parseLength (value);
+                    break;
+                case "stroke-width":
+                    this.strokeWidth = parseLength (value);
+                    break;
+                case "fill-rule":
+                    this.isEvenOdd = "evenodd".equals (value);
+                    break;
+                case "display":
+                    this.isVisible = !"none".equals (value);
+                    break;
+                default:
+                    // Not supported
+                    break;
+            }
+        }
+
+
+        private static Color parseColor (final String value)
+        {
+            final String color = value.trim ().toLowerCase (Locale.US);
+            if (color.startsWith ("#"))
+            {
+                final String hex = color.substring (1);
+                try
+                {
+                    if (hex.length () == 3)
+                        return new Color (Integer.parseInt (hex.substring (0, 1), 16) * 17, Integer.parseInt (hex.substring (1, 2), 16) * 17, Integer.parseInt (hex.substring (2, 3), 16) * 17);
+                    if (hex.length () == 6)
+                        return new Color (Integer.parseInt (hex, 16));
+                }
+                catch (final NumberFormatException ex)
+                {
+                    return Color.BLACK;
+                }
+            }
+
+            switch (color)
+            {
+                case "none":
+                case "transparent":
+                    return null;
+                case "white":
+                    return Color.WHITE;
+                default:
+                    // Black, current color and all others
+                    return Color.BLACK;
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.software;
+
+import de.mossgrabers.framework.graphics.FontMetricsCache;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IPixelEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+import javax.swing.ImageIcon;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
+import javax.swing.WindowConstants;
+
+
+/**
+ * A bitmap which is rendered in Java without the graphics API of the DAW. The pixels are stored in
+ * an integer array, which can be directly encoded into the formats of the devices. The rendering
+ * can therefore also run and be measured outside of the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SoftwareBitmap implements IBitmap
+{
+    /** Set this system property to true to render all bitmaps and images in software. */
+    public static final String     PROPERTY_ENABLED = "de.mossgrabers.graphics.software";
+
+    private static final boolean   IS_ENABLED       = Boolean.getBoolean (PROPERTY_ENABLED);
+
+    private final BufferedImage    image;
+    private final int []           pixels;
+    private final FontMetricsCache fontMetricsCache = new FontMetricsCache ();
+    private ByteBuffer             byteBuffer;
+    private String                 windowTitle      = "";
+    private volatile JFrame        window;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public SoftwareBitmap (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster ().getDataBuffer ()).getData ();
+    }
+
+
+    /**
+     * Is software rendering selected?
+     *
+     * @return True if the system property PROPERTY_ENABLED is set to true
+     */
+    public static boolean isEnabled ()
+    {
+        return IS_ENABLED;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        this.windowTitle = title;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        if (GraphicsEnvironment.isHeadless ())
+            return;
+
+        SwingUtilities.invokeLater ( () -> {
+            if (this.window == null)
+            {
+                final JFrame frame = new JFrame (this.windowTitle);
+                frame.setDefaultCloseOperation (WindowConstants.HIDE_ON_CLOSE);
+                frame.add (new JLabel (new ImageIcon (this.image)));
+                frame.pack ();
+                this.window = frame;
+            }
+            this.window.setVisible (true);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        final Graphics2D gc = this.image.createGraphics ();
+        try
+        {
+            renderer.render (new SoftwareGraphicsContext (gc, enableAntialias, this.fontMetricsCache));
+        }
+        finally
+        {
+            gc.dispose ();
+        }
+
+        final JFrame frame = this.window;
+        if (frame != null)
+            frame.repaint ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        // The pixels are copied into a byte buffer and back after encoding, since the encoder
+        // might also modify the buffer. Use encodePixels for a direct access.
+        if (this.byteBuffer == null)
+            this.byteBuffer = ByteBuffer.allocateDirect (this.pixels.length * 4).order (ByteOrder.LITTLE_ENDIAN);
+
+        // Integer ARGB in little endian is blue, green, red, alpha like the DAW bitmap
+        this.byteBuffer.clear ();
+        this.byteBuffer.asIntBuffer ().put (this.pixels);
+        encoder.encode (this.byteBuffer, this.image.getWidth (), this.image.getHeight ());
+        this.byteBuffer.clear ();
+        this.byteBuffer.asIntBuffer ().get (this.pixels);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encodePixels (final IPixelEncoder encoder)
+    {
+        encoder.encode (IntBuffer.wrap (this.pixels), this.image.getWidth (), this.image.getHeight ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FontMetricsCache getFontMetricsCache ()
+    {
+        return this.fontMetricsCache;
+    }
+
+
+    /**
+     * Get the image which contains the pixels of the bitmap.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+}
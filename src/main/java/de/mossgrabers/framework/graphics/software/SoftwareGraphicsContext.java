@@ -0,0 +1,350 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.software;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.FontMetricsCache;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.ITextMeasurer;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+
+/**
+ * Implementation of a graphics context which draws with Java 2D into the image of a software
+ * bitmap. It follows the behaviour of the graphics output of the DAW, e.g. the line width set by a
+ * rectangle stroke is kept for the following lines and text is measured by the extents of its
+ * glyphs.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SoftwareGraphicsContext implements IGraphicsContext, ITextMeasurer
+{
+    /** The line width which is used if none was set, same as in the graphics output of the DAW. */
+    private static final double    DEFAULT_LINE_WIDTH = 2;
+    private static final Font      BASE_FONT          = new Font (Font.SANS_SERIF, Font.PLAIN, 12);
+
+    private final Graphics2D       gc;
+    private final FontMetricsCache fontMetricsCache;
+    private final Path2D.Double    path               = new Path2D.Double ();
+
+    private BasicStroke            stroke             = new BasicStroke ((float) DEFAULT_LINE_WIDTH, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER);
+    private ColorEx                color;
+    private Font                   font               = BASE_FONT;
+    private double                 fontSize           = -1;
+    private double                 capitalHeight;
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The Java 2D graphics context of the image to draw into
+     * @param enableAntialias True to enable anti aliasing
+     * @param fontMetricsCache The cache for font size calculations
+     */
+    public SoftwareGraphicsContext (final Graphics2D gc, final boolean enableAntialias, final FontMetricsCache fontMetricsCache)
+    {
+        this.gc = gc;
+        this.fontMetricsCache = fontMetricsCache;
+
+        // Use the exact geometry and font metrics instead of rounding to full pixels
+        gc.setRenderingHint (RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        gc.setRenderingHint (RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        gc.setRenderingHint (RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        this.setAntialias (enableAntialias);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.setStroke (this.stroke);
+        this.gc.draw (new Line2D.Double (x1, y1, x2, y2));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.fill (new Rectangle2D.Double (x, y, Math.max (0, width), Math.max (0, height)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        // Turn off antialias or otherwise we do not get a single line
+        this.setAntialias (false);
+        this.setColor (color);
+        this.stroke = new BasicStroke ((float) lineWidth, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER);
+        this.gc.setStroke (this.stroke);
+        this.gc.draw (new Rectangle2D.Double (left, top, width, height));
+        this.setAntialias (true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx backgroundColor)
+    {
+        this.setColor (backgroundColor);
+        this.gc.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        this.gc.setPaint (new GradientPaint ((float) left, (float) top, toColor (color1), (float) left, (float) (top + height), toColor (color2)));
+        this.color = null;
+        this.gc.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        this.gc.fill (this.createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx lineColor)
+    {
+        this.setColor (lineColor);
+        this.gc.setStroke (this.stroke);
+        this.gc.draw (this.createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        final double r = Math.max (0, radius);
+        this.gc.fill (new Ellipse2D.Double (x - r, y - r, 2 * r, 2 * r));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+        this.setFontSize (fontSize);
+
+        // The text is drawn on the baseline, therefore center the height of a capital letter
+        final double h = this.capitalHeight;
+        final double w = this.measureText (txt).getVisualBounds ().getWidth ();
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        final Shape clip = this.gc.getClip ();
+        this.gc.clip (new Rectangle2D.Double (x, y, width, height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (txt, (float) posX, (float) posY);
+        this.gc.setClip (clip);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+        this.setFontSize (fontSize);
+
+        // The text is drawn on the baseline, therefore center the height of a capital letter
+        final double h = this.capitalHeight;
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = this.measureText (txt).getVisualBounds ().getWidth ();
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (txt, (float) x, (float) posY);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage icon, final double x, final double y)
+    {
+        this.drawImage (((SoftwareImage) icon).getImage (), x, y);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
+    {
+        this.drawImage (((SoftwareImage) icon).getMask (maskColor), x, y);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        return this.fontMetricsCache.calculateFontSize (text, maxHeight, maxWidth, minimumFontSize, this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getFont ()
+    {
+        return BASE_FONT;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTextWidth (final String text, final double fontSize)
+    {
+        this.setFontSize (fontSize);
+        return this.measureText (text).getVisualBounds ().getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getCharacterAdvance (final char character, final double fontSize)
+    {
+        this.setFontSize (fontSize);
+        return this.measureText (String.valueOf (character)).getGlyphMetrics (0).getAdvanceX ();
+    }
+
+
+    private void drawImage (final BufferedImage image, final double x, final double y)
+    {
+        this.gc.drawImage (image, AffineTransform.getTranslateInstance (x, y), null);
+    }
+
+
+    private Shape createTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3)
+    {
+        this.path.reset ();
+        this.path.moveTo (x1, y1);
+        this.path.lineTo (x2, y2);
+        this.path.lineTo (x3, y3);
+        this.path.closePath ();
+        return this.path;
+    }
+
+
+    private GlyphVector measureText (final String text)
+    {
+        return this.font.createGlyphVector (this.gc.getFontRenderContext (), text);
+    }
+
+
+    private void setFontSize (final double fontSize)
+    {
+        if (fontSize == this.fontSize)
+            return;
+        this.fontSize = fontSize;
+        this.font = BASE_FONT.deriveFont ((float) fontSize);
+        this.gc.setFont (this.font);
+        this.capitalHeight = this.measureText ("T").getVisualBounds ().getHeight ();
+    }
+
+
+    private void setAntialias (final boolean enable)
+    {
+        this.gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, enable ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        this.gc.setRenderingHint (RenderingHints.KEY_TEXT_ANTIALIASING, enable ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+    }
+
+
+    private void setColor (final ColorEx color)
+    {
+        // Most shapes are drawn in a few colors one after the other
+        if (color == this.color)
+            return;
+        this.color = color;
+        this.gc.setPaint (toColor (color));
+    }
+
+
+    private static Color toColor (final ColorEx color)
+    {
+        return new Color ((float) clamp (color.getRed ()), (float) clamp (color.getGreen ()), (float) clamp (color.getBlue ()));
+    }
+
+
+    private static double clamp (final double value)
+    {
+        return Math.max (0, Math.min (1, value));
+    }
+}
@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.software;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.IImage;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An image for the software renderer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SoftwareImage implements IImage
+{
+    /** The maximum number of different mask colors to keep. */
+    private static final int                  MAX_MASKS = 16;
+
+    private final BufferedImage               image;
+    private final Map<ColorEx, BufferedImage> masks     = new HashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param image The image, must be of type ARGB
+     */
+    public SoftwareImage (final BufferedImage image)
+    {
+        this.image = image;
+    }
+
+
+    /**
+     * Get the encapsulated image.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+
+
+    /**
+     * Get an image which is filled with the given color where this image is not transparent. The
+     * images are kept since the icons are mostly drawn with a few colors.
+     *
+     * @param color The color of the mask
+     * @return The mask image
+     */
+    public synchronized BufferedImage getMask (final ColorEx color)
+    {
+        final BufferedImage cachedMask = this.masks.get (color);
+        if (cachedMask != null)
+            return cachedMask;
+
+        final int [] rgb = color.toIntRGB255 ();
+        final int colorValue = rgb[0] << 16 | rgb[1] << 8 | rgb[2];
+        final int width = this.image.getWidth ();
+        final int height = this.image.getHeight ();
+        final int [] pixels = this.image.getRGB (0, 0, width, height, null, 0, width);
+        for (int i = 0; i < pixels.length; i++)
+            pixels[i] = pixels[i] & 0xFF000000 | colorValue;
+
+        final BufferedImage mask = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        mask.setRGB (0, 0, width, height, pixels, 0, width);
+        if (this.masks.size () >= MAX_MASKS)
+            this.masks.clear ();
+        this.masks.put (color, mask);
+        return mask;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.image.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.image.getHeight ();
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -76,6 +77,8 @@ public class Scales
     };
     // @formatter:on
 
+    private static final int []         NO_PADS                  = new int [0];
+
     /** Color index when the pad is turned off. */
     public static final String          SCALE_COLOR_OFF          = "SCALE_COLOR_OFF";
     /** Color index when the pad is the base note of the scale. */
@@ -117,6 +120,17 @@ public class Scales
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
     private IValueChanger               valueChanger;
 
+    // Calculated matrices are shared until one of the settings they depend on changes
+    private final Map<int [], int []>   noteMatrices             = new IdentityHashMap<> ();
+    private final Map<int [], int [][]> inverseMatrices          = new IdentityHashMap<> ();
+    private int []                      sequencerMatrix;
+    private int                         sequencerLength;
+    private int                         sequencerNoteOffset;
+    private int []                      pianoMatrix;
+    private int                         pianoRows;
+    private int                         pianoColumns;
+    private int []                      drumNoteMatrix;
+
 
     /**
      * Constructor.
@@ -161,6 +175,7 @@ public class Scales
     public void setScale (final Scale scale)
     {
         this.selectedScale = scale;
+        this.clearMatrixCache ();
     }
 
 
@@ -172,6 +187,7 @@ public class Scales
     public void setScaleByName (final String scaleName)
     {
         this.selectedScale = Scale.getByName (scaleName);
+        this.clearMatrixCache ();
     }
 
 
@@ -185,6 +201,7 @@ public class Scales
         final Scale [] values = Scale.values ();
         final int index = this.valueChanger.changeValue (control, this.selectedScale.ordinal (), -100, values.length);
         this.selectedScale = values[index];
+        this.clearMatrixCache ();
     }
 
 
@@ -217,6 +234,7 @@ public class Scales
     {
         final Scale [] values = Scale.values ();
         this.selectedScale = values[Math.max (0, this.selectedScale.ordinal () - 1)];
+        this.clearMatrixCache ();
     }
 
 
@@ -227,6 +245,7 @@ public class Scales
     {
         final Scale [] values = Scale.values ();
         this.selectedScale = values[Math.min (values.length - 1, this.selectedScale.ordinal () + 1)];
+        this.clearMatrixCache ();
     }
 
 
@@ -289,6 +308,7 @@ public class Scales
     public void setScaleOffset (final int scaleOffset)
     {
         this.scaleOffset = Math.max (0, Math.min (scaleOffset, Scales.OFFSETS.length - 1));
+        this.clearMatrixCache ();
     }
 
 
@@ -301,7 +321,10 @@ public class Scales
     {
         final int index = Scales.BASES.indexOf (scaleOffsetName);
         if (index >= 0)
+        {
             this.scaleOffset = index;
+            this.clearMatrixCache ();
+        }
     }
 
 
@@ -390,6 +413,7 @@ public class Scales
     public void setChromatic (final boolean enable)
     {
         this.chromaticOn = enable;
+        this.clearMatrixCache ();
     }
 
 
@@ -399,6 +423,7 @@ public class Scales
     public void toggleChromatic ()
     {
         this.chromaticOn = !this.chromaticOn;
+        this.clearMatrixCache ();
     }
 
 
@@ -421,6 +446,7 @@ public class Scales
     public void setOctave (final int octave)
     {
         this.octave = Math.max (-Scales.OCTAVE_RANGE, Math.min (octave, Scales.OCTAVE_RANGE));
+        this.clearMatrixCache ();
     }
 
 
@@ -459,6 +485,7 @@ public class Scales
     public void resetDrumOctave ()
     {
         this.drumOffset = this.drumNoteStart;
+        this.clearMatrixCache ();
     }
 
 
@@ -503,6 +530,7 @@ public class Scales
     public void incDrumOctave ()
     {
         this.drumOffset = Math.min (DRUM_NOTE_UPPER, this.drumOffset + this.drumDefaultOffset);
+        this.clearMatrixCache ();
     }
 
 
@@ -512,6 +540,7 @@ public class Scales
     public void decDrumOctave ()
     {
         this.drumOffset = Math.max (DRUM_NOTE_LOWER, this.drumOffset - this.drumDefaultOffset);
+        this.clearMatrixCache ();
     }
 
 
@@ -523,6 +552,7 @@ public class Scales
     public void incDrumOffset (final int offset)
     {
         this.drumOffset = Math.min (100, this.drumOffset + offset);
+        this.clearMatrixCache ();
     }
 
 
@@ -534,6 +564,7 @@ public class Scales
     public void decDrumOffset (final int offset)
     {
         this.drumOffset = Math.max (4, this.drumOffset - offset);
+        this.clearMatrixCache ();
     }
 
 
@@ -567,6 +598,7 @@ public class Scales
     public void setPianoOctave (final int octave)
     {
         this.pianoOctave = Math.max (-Scales.PIANO_OCTAVE_RANGE, Math.min (octave, Scales.PIANO_OCTAVE_RANGE));
+        this.clearMatrixCache ();
     }
 
 
@@ -738,7 +770,7 @@ public class Scales
 
 
     /**
-     * Get the active note matrix.
+     * Get the active note matrix. The matrix is shared and must not be modified.
      *
      * @return The matrix
      */
@@ -749,31 +781,48 @@ public class Scales
 
 
     /**
-     * Get a note matrix.
+     * Get a note matrix. The matrix is shared and must not be modified.
      *
-     * @param matrix The input scale matrix
+     * @param matrix The input scale matrix, e.g. the active matrix or a chord matrix
      * @return The matrix
      */
     public int [] getNoteMatrix (final int [] matrix)
     {
-        final int [] noteMap = Scales.getEmptyMatrix ();
+        int [] noteMap = this.noteMatrices.get (matrix);
+        if (noteMap != null)
+            return noteMap;
+
+        noteMap = Scales.getEmptyMatrix ();
         for (int note = this.startNote; note < this.endNote; note++)
         {
             final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote + this.octave * 12;
             noteMap[note] = n < 0 || n > 127 ? -1 : n;
         }
-        return noteMap;
+        this.noteMatrices.put (matrix, noteMap);
+        return this.cacheInverseMatrix (noteMap);
     }
 
 
     /**
-     * Get the active sequencer matrix.
+     * Get the active sequencer matrix. The matrix is shared and must not be modified.
      *
      * @param length The expected length
      * @param noteOffset An offset to add to the notes
      * @return The matrix
      */
     public int [] getSequencerMatrix (final int length, final int noteOffset)
+    {
+        if (this.sequencerMatrix == null || this.sequencerLength != length || this.sequencerNoteOffset != noteOffset)
+        {
+            this.sequencerMatrix = this.cacheInverseMatrix (this.createSequencerMatrix (length, noteOffset));
+            this.sequencerLength = length;
+            this.sequencerNoteOffset = noteOffset;
+        }
+        return this.sequencerMatrix;
+    }
+
+
+    private int [] createSequencerMatrix (final int length, final int noteOffset)
     {
         final int [] noteMap = new int [length];
         if (this.isChromatic ())
@@ -805,13 +854,25 @@ public class Scales
 
 
     /**
-     * Get the piano matrix.
+     * Get the piano matrix. The matrix is shared and must not be modified.
      *
      * @param rows The number of rows
      * @param columns The number of columns
      * @return The matrix
      */
     public int [] getPianoMatrix (final int rows, final int columns)
+    {
+        if (this.pianoMatrix == null || this.pianoRows != rows || this.pianoColumns != columns)
+        {
+            this.pianoMatrix = this.cacheInverseMatrix (this.createPianoMatrix (rows, columns));
+            this.pianoRows = rows;
+            this.pianoColumns = columns;
+        }
+        return this.pianoMatrix;
+    }
+
+
+    private int [] createPianoMatrix (final int rows, final int columns)
     {
         int octaveOffset = 3 + this.pianoOctave;
         int counter = this.startNote;
@@ -865,12 +926,15 @@ public class Scales
 
 
     /**
-     * Get the drum matrix.
+     * Get the drum matrix. The matrix is shared and must not be modified.
      *
      * @return The drum matrix
      */
     public int [] getDrumMatrix ()
     {
+        if (this.drumNoteMatrix != null)
+            return this.drumNoteMatrix;
+
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
         {
@@ -878,10 +942,58 @@ public class Scales
             final int n = ns == -1 ? -1 : ns + this.drumOffset;
             noteMap[note] = n < 0 || n > 127 ? -1 : n;
         }
+        this.drumNoteMatrix = this.cacheInverseMatrix (noteMap);
         return noteMap;
     }
 
 
+    /**
+     * Get the inverse of a note matrix, which contains the pads which play a MIDI note. The
+     * inverse is pre-calculated for all matrices returned by this class, other matrices are
+     * calculated on each call. The result is shared and must not be modified.
+     *
+     * @param noteMatrix A note matrix
+     * @return For each MIDI note (0-127) the pads which play the note in ascending order, an empty
+     *         array if the note is not mapped
+     */
+    public int [][] getInverseMatrix (final int [] noteMatrix)
+    {
+        final int [][] inverse = this.inverseMatrices.get (noteMatrix);
+        return inverse == null ? Scales.createInverseMatrix (noteMatrix) : inverse;
+    }
+
+
+    /**
+     * Create the inverse of a note matrix.
+     *
+     * @param noteMatrix A note matrix
+     * @return For each MIDI note (0-127) the pads which play the note in ascending order, an empty
+     *         array if the note is not mapped
+     */
+    public static int [][] createInverseMatrix (final int [] noteMatrix)
+    {
+        final int [] counts = new int [128];
+        for (final int note: noteMatrix)
+        {
+            if (note >= 0 && note < 128)
+                counts[note]++;
+        }
+
+        final int [][] inverse = new int [128][];
+        for (int note = 0; note < 128; note++)
+            inverse[note] = counts[note] == 0 ? NO_PADS : new int [counts[note]];
+
+        Arrays.fill (counts, 0);
+        for (int pad = 0; pad < noteMatrix.length; pad++)
+        {
+            final int note = noteMatrix[pad];
+            if (note >= 0 && note < 128)
+                inverse[note][counts[note]++] = pad;
+        }
+        return inverse;
+    }
+
+
     /**
      * Set a new drum matrix.
      *
@@ -890,6 +1002,7 @@ public class Scales
     public void setDrumMatrix (final int [] matrix)
     {
         this.drumMatrix = matrix;
+        this.clearMatrixCache ();
     }
 
 
@@ -901,6 +1014,7 @@ public class Scales
     public void setDrumNoteStart (final int drumNoteStart)
     {
         this.drumNoteStart = drumNoteStart;
+        this.clearMatrixCache ();
     }
 
 
@@ -912,6 +1026,7 @@ public class Scales
     public void setDrumNoteEnd (final int drumNoteEnd)
     {
         this.drumNoteEnd = drumNoteEnd;
+        this.clearMatrixCache ();
     }
 
 
@@ -1039,6 +1154,26 @@ public class Scales
     }
 
 
+    private int [] cacheInverseMatrix (final int [] noteMatrix)
+    {
+        this.inverseMatrices.put (noteMatrix, Scales.createInverseMatrix (noteMatrix));
+        return noteMatrix;
+    }
+
+
+    /**
+     * Drop all calculated matrices since a setting they depend on has changed.
+     */
+    private void clearMatrixCache ()
+    {
+        this.noteMatrices.clear ();
+        this.inverseMatrices.clear ();
+        this.sequencerMatrix = null;
+        this.pianoMatrix = null;
+        this.drumNoteMatrix = null;
+    }
+
+
     /**
      * Generate all matrices for all scales.
      */
@@ -1051,6 +1186,7 @@ public class Scales
             this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
             this.chordGrids.put (scale, new ChordGrid (scale, this.numRows, this.numColumns));
         }
+        this.clearMatrixCache ();
     }
 
 
@@ -1073,6 +1209,7 @@ public class Scales
     public void setStartNote (final int startNote)
     {
         this.startNote = startNote;
+        this.clearMatrixCache ();
     }
 
 
@@ -1095,5 +1232,6 @@ public class Scales
     public void setEndNote (final int endNote)
     {
         this.endNote = endNote;
+        this.clearMatrixCache ();
     }
 }
\ No newline at end of file
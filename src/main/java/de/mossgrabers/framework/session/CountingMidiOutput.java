@@ -0,0 +1,64 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A MIDI output which does not send anything but counts the bytes which would have been sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CountingMidiOutput extends AbstractMidiOutputImpl
+{
+    private final AtomicLong counter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param counter The counter to which to add the number of sent bytes
+     */
+    public CountingMidiOutput (final AtomicLong counter)
+    {
+        this.counter = counter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.counter.addAndGet (data.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        // The data is formatted as hex string, 2 digits per byte, optionally separated by spaces
+        int digits = 0;
+        for (int i = 0; i < data.length (); i++)
+        {
+            if (Character.digit (data.charAt (i), 16) >= 0)
+                digits++;
+        }
+        this.counter.addAndGet (digits / 2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        // Program change and channel pressure have only 1 data byte
+        final int code = status & 0xF0;
+        this.counter.addAndGet (code == 0xC0 || code == 0xD0 ? 2 : 3);
+    }
+}
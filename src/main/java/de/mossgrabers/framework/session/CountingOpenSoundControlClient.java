@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * An OSC client which does not send anything but counts the bytes of the OSC packets which would
+ * have been sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CountingOpenSoundControlClient implements IOpenSoundControlClient
+{
+    /** "#bundle" string and time tag. */
+    private static final int BUNDLE_HEADER_SIZE = 16;
+
+    private final AtomicLong counter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param counter The counter to which to add the number of sent bytes
+     */
+    public CountingOpenSoundControlClient (final AtomicLong counter)
+    {
+        this.counter = counter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.counter.addAndGet (getSize (message));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        long size = BUNDLE_HEADER_SIZE;
+        // Each element of a bundle is preceded by its size
+        for (final IOpenSoundControlMessage message: messages)
+            size += 4 + getSize (message);
+        this.counter.addAndGet (size);
+    }
+
+
+    /**
+     * Calculate the size of the encoded message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    private static int getSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+
+        // The address and the type tags (',' plus one per value), both padded to 4 bytes
+        int size = getPaddedStringSize (message.getAddress ()) + pad (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value instanceof Integer || value instanceof Float)
+                size += 4;
+            else if (value instanceof Long || value instanceof Double)
+                size += 8;
+            else if (value instanceof byte [])
+                size += 4 + pad (((byte []) value).length);
+            else if (value != null && !(value instanceof Boolean))
+                size += getPaddedStringSize (value.toString ());
+        }
+        return size;
+    }
+
+
+    private static int getPaddedStringSize (final String text)
+    {
+        // Zero terminated
+        return pad (text.getBytes (StandardCharsets.UTF_8).length + 1);
+    }
+
+
+    private static int pad (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
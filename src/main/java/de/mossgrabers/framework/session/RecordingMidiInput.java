@@ -0,0 +1,179 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * Wraps a MIDI input and records all messages which are handed to its MIDI and system exclusive
+ * callbacks. Messages which are consumed by the hardware bindings of the DAW do not reach the
+ * callbacks and are therefore not recorded.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RecordingMidiInput implements IMidiInput
+{
+    private final SessionRecorder recorder;
+    private final int             device;
+    private final int             port;
+    private final IMidiInput      input;
+
+
+    /**
+     * Constructor.
+     *
+     * @param recorder The recorder to which to send the messages
+     * @param device The index of the device to which the input belongs
+     * @param port The index of the MIDI input port
+     * @param input The input to wrap
+     */
+    public RecordingMidiInput (final SessionRecorder recorder, final int device, final int port, final IMidiInput input)
+    {
+        this.recorder = recorder;
+        this.device = device;
+        this.port = port;
+        this.input = input;
+    }
+
+
+    /**
+     * Get the wrapped input.
+     *
+     * @return The input
+     */
+    public IMidiInput getInput ()
+    {
+        return this.input;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.input.setMidiCallback ( (status, data1, data2) -> {
+            this.recorder.recordMidi (this.device, this.port, status, data1, data2);
+            callback.handleMidi (status, data1, data2);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.input.setSysexCallback (data -> {
+            this.recorder.recordSysex (this.device, this.port, data);
+            callback.handleMidi (data);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return this.input.createNoteInput (name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.input.getDefaultNoteInput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.input.sendRawMidiEvent (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (button, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IHwButton button)
+    {
+        this.input.unbind (button);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control, final int value)
+    {
+        this.input.bind (button, type, channel, control, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (fader, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteKnob absoluteKnob, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (absoluteKnob, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteControl absoluteControl, final BindType type, final int channel, final int control)
+    {
+        this.input.bind (absoluteControl, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
+    {
+        this.input.bind (relativeKnob, type, channel, control, encoding);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control)
+    {
+        this.input.bindTouch (relativeKnob, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.input.bindTouch (fader, type, channel, control);
+    }
+}
@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Replays a recorded session on a controller setup without the DAW and prints the statistics of
+ * the replay. The setup is created with the stand-ins of the replay environment, after each event
+ * the scheduled tasks are executed and the setup is flushed like the DAW would do.
+ *
+ * <pre>
+ * Usage: ReplayDriver setupClass sessionFile [--realtime] [--device index] [argument]
+ * </pre>
+ *
+ * The optional argument is handed to setups which take an additional parameter after the settings
+ * (e.g. the number of devices of the MCU setup). It needs to be an integer, boolean or the name of
+ * an enum constant.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayDriver
+{
+    /**
+     * Private due to utility class.
+     */
+    private ReplayDriver ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Replay a session.
+     *
+     * @param args The setup class, the session file and the options, see class description
+     * @throws Exception Could not create the setup or read the session file
+     */
+    public static void main (final String [] args) throws Exception
+    {
+        final List<String> parameters = new ArrayList<> ();
+        boolean useRecordedTiming = false;
+        int device = 0;
+        for (int i = 0; i < args.length; i++)
+        {
+            if ("--realtime".equals (args[i]))
+                useRecordedTiming = true;
+            else if ("--device".equals (args[i]) && i + 1 < args.length)
+                device = Integer.parseInt (args[++i]);
+            else
+                parameters.add (args[i]);
+        }
+
+        if (parameters.size () < 2 || parameters.size () > 3)
+        {
+            System.err.println ("Usage: ReplayDriver setupClass sessionFile [--realtime] [--device index] [argument]");
+            System.exit (1);
+            return;
+        }
+
+        final SessionReplayer replayer = new SessionReplayer ();
+        final ReplayEnvironment environment = new ReplayEnvironment (replayer);
+        final IControllerSetup<?, ?> setup = createSetup (parameters.get (0), environment, parameters.size () > 2 ? parameters.get (2) : null);
+
+        setup.init ();
+        environment.runTasks ();
+        setup.startup ();
+        environment.runTasks ();
+
+        replayer.setFlushHandler ( () -> {
+            environment.runTasks ();
+            setup.flush ();
+        });
+
+        final ReplayStatistics statistics = replayer.replay (new File (parameters.get (1)), device, useRecordedTiming);
+        System.out.println (statistics);
+
+        setup.exit ();
+        // The setup might have started threads which are not stopped on exit
+        System.exit (0);
+    }
+
+
+    private static IControllerSetup<?, ?> createSetup (final String className, final ReplayEnvironment environment, final String argument) throws ReflectiveOperationException
+    {
+        final Class<?> setupClass = Class.forName (className);
+        for (final Constructor<?> constructor: setupClass.getConstructors ())
+        {
+            final Class<?> [] types = constructor.getParameterTypes ();
+            if (types.length != (argument == null ? 4 : 5) || types[0] != IHost.class || types[1] != ISetupFactory.class || types[2] != ISettingsUI.class || types[3] != ISettingsUI.class)
+                continue;
+
+            final Object [] values = new Object [types.length];
+            values[0] = environment.getHost ();
+            values[1] = environment.createSetupFactory ();
+            values[2] = environment.createSettingsUI ();
+            values[3] = environment.createSettingsUI ();
+            if (argument != null)
+                values[4] = parseArgument (types[4], argument);
+
+            try
+            {
+                return (IControllerSetup<?, ?>) constructor.newInstance (values);
+            }
+            catch (final InvocationTargetException ex)
+            {
+                final Throwable cause = ex.getCause ();
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                throw ex;
+            }
+        }
+        throw new NoSuchMethodException ("No matching constructor found in " + className);
+    }
+
+
+    @SuppressWarnings(
+    {
+        "unchecked",
+        "rawtypes"
+    })
+    private static Object parseArgument (final Class<?> type, final String argument)
+    {
+        if (type == int.class)
+            return Integer.valueOf (argument);
+        if (type == boolean.class)
+            return Boolean.valueOf (argument);
+        if (type.isEnum ())
+            return Enum.valueOf ((Class<? extends Enum>) type, argument);
+        throw new IllegalArgumentException ("Unsupported parameter type " + type.getName ());
+    }
+}
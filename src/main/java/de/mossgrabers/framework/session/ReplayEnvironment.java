@@ -0,0 +1,300 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IValueSetting;
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.TimerWheel;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * Stand-ins for the host, the setup factory and the settings UI which allow to run a controller
+ * setup on the session replayer without the DAW. MIDI and OSC are connected to the replayer, tasks
+ * scheduled on the host are queued and executed with runTasks, settings start with their initial
+ * value. Everything else is answered by empty stand-ins which return default values: the DAW model
+ * does not change while replaying, therefore the statistics only cover the handling of the
+ * controller events and the updates of the controller which they trigger.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayEnvironment
+{
+    private final SessionReplayer           replayer;
+    private final ArrayDeque<Runnable>      tasks   = new ArrayDeque<> ();
+    private final Map<List<Object>, Object> results = new HashMap<> ();
+    private final IHost                     host;
+    private final TimerWheel                timerWheel;
+    private Scales                          scales;
+
+
+    /**
+     * Constructor.
+     *
+     * @param replayer The replayer to which MIDI and OSC are connected
+     */
+    public ReplayEnvironment (final SessionReplayer replayer)
+    {
+        this.replayer = replayer;
+        this.host = this.create (IHost.class, null);
+        this.timerWheel = new TimerWheel (this.host);
+    }
+
+
+    /**
+     * Get the host stand-in.
+     *
+     * @return The host
+     */
+    public IHost getHost ()
+    {
+        return this.host;
+    }
+
+
+    /**
+     * Create a setup factory stand-in.
+     *
+     * @return The factory
+     */
+    public ISetupFactory createSetupFactory ()
+    {
+        return this.create (ISetupFactory.class, null);
+    }
+
+
+    /**
+     * Create a settings UI stand-in.
+     *
+     * @return The settings UI
+     */
+    public ISettingsUI createSettingsUI ()
+    {
+        return this.create (ISettingsUI.class, null);
+    }
+
+
+    /**
+     * Execute the tasks which were scheduled on the host. The delays of the tasks are ignored.
+     * Tasks which are scheduled while executing them (e.g. repeating tasks) are executed with the
+     * next call.
+     */
+    public void runTasks ()
+    {
+        for (int i = this.tasks.size (); i > 0; i--)
+            this.tasks.poll ().run ();
+    }
+
+
+    private <T> T create (final Class<T> clazz, final Object initialValue)
+    {
+        return clazz.cast (Proxy.newProxyInstance (ReplayEnvironment.class.getClassLoader (), new Class<?> []
+        {
+            clazz
+        }, new StandInHandler (clazz, initialValue)));
+    }
+
+
+    private Object handle (final StandInHandler handler, final Object proxy, final Method method, final Object [] args) throws Throwable
+    {
+        switch (method.getName ())
+        {
+            case "scheduleTask":
+                this.tasks.add ((Runnable) args[0]);
+                return null;
+            case "getTimerWheel":
+                return this.timerWheel;
+            case "println":
+            case "showNotification":
+                System.out.println (args[0]);
+                return null;
+            case "error":
+                System.err.println (args[0]);
+                if (args.length > 1)
+                    ((Throwable) args[1]).printStackTrace ();
+                return null;
+            case "createMidiAccess":
+                return this.replayer;
+            case "createOSCServer":
+                return this.replayer.createOSCServer ((IOpenSoundControlCallback) args[0]);
+            case "connectToOSCServer":
+                return this.replayer.connectToOSCServer ();
+            case "createOSCMessage":
+                return new ReplayOpenSoundControlMessage ((String) args[0], ((List<?>) args[1]).toArray ());
+            case "createModel":
+                this.scales = (Scales) args[2];
+                break;
+            case "getScales":
+                return this.scales;
+            case "getPageSize":
+                // Banks have at least one item per page, some callers divide by it
+                return Integer.valueOf (1);
+            default:
+                break;
+        }
+
+        if (method.isDefault ())
+            return MethodHandles.privateLookupIn (method.getDeclaringClass (), MethodHandles.lookup ()).unreflectSpecial (method, method.getDeclaringClass ()).bindTo (proxy).invokeWithArguments (args == null ? new Object [0] : args);
+
+        final Class<?> returnType = resolveReturnType (handler.type, method);
+        if (!returnType.isInterface ())
+            return getDefaultValue (returnType);
+
+        // Settings start with their initial value, which is the last parameter
+        final Object initialValue = IValueSetting.class.isAssignableFrom (returnType) && args != null && args.length > 2 ? args[args.length - 1] : null;
+        final List<Object> key = Arrays.asList (proxy, method, args == null ? Collections.emptyList () : Arrays.asList (args));
+        return this.results.computeIfAbsent (key, k -> this.create (returnType, initialValue));
+    }
+
+
+    private static Class<?> resolveReturnType (final Class<?> type, final Method method)
+    {
+        final Type genericType = method.getGenericReturnType ();
+        if (!(genericType instanceof TypeVariable))
+            return method.getReturnType ();
+
+        final Map<TypeVariable<?>, Type> typeArguments = new HashMap<> ();
+        collectTypeArguments (type, typeArguments);
+        Type resolved = genericType;
+        while (resolved instanceof TypeVariable && typeArguments.containsKey (resolved))
+            resolved = typeArguments.get (resolved);
+        if (resolved instanceof Class)
+            return (Class<?>) resolved;
+        if (resolved instanceof ParameterizedType)
+            return (Class<?>) ((ParameterizedType) resolved).getRawType ();
+        return method.getReturnType ();
+    }
+
+
+    private static void collectTypeArguments (final Class<?> type, final Map<TypeVariable<?>, Type> typeArguments)
+    {
+        for (final Type superInterface: type.getGenericInterfaces ())
+        {
+            if (superInterface instanceof ParameterizedType)
+            {
+                final ParameterizedType parameterizedType = (ParameterizedType) superInterface;
+                final Class<?> rawType = (Class<?>) parameterizedType.getRawType ();
+                final TypeVariable<?> [] variables = rawType.getTypeParameters ();
+                for (int i = 0; i < variables.length; i++)
+                    typeArguments.put (variables[i], parameterizedType.getActualTypeArguments ()[i]);
+                collectTypeArguments (rawType, typeArguments);
+            }
+            else
+                collectTypeArguments ((Class<?>) superInterface, typeArguments);
+        }
+    }
+
+
+    private static Object getDefaultValue (final Class<?> type)
+    {
+        if (type == boolean.class || type == Boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class || type == Integer.class)
+            return Integer.valueOf (0);
+        if (type == long.class || type == Long.class)
+            return Long.valueOf (0);
+        if (type == double.class || type == Double.class)
+            return Double.valueOf (0);
+        if (type == float.class || type == Float.class)
+            return Float.valueOf (0);
+        if (type == String.class)
+            return "";
+        if (type == ColorEx.class)
+            return ColorEx.BLACK;
+        if (type == List.class)
+            return new ArrayList<> ();
+        if (type == Optional.class)
+            return Optional.empty ();
+        if (type.isArray ())
+            return Array.newInstance (type.getComponentType (), 0);
+        if (type.isEnum ())
+            return type.getEnumConstants ()[0];
+        return null;
+    }
+
+
+    /**
+     * Handles the calls to a stand-in. Stand-ins of settings keep their value and notify their
+     * observers.
+     */
+    private class StandInHandler implements InvocationHandler
+    {
+        private final Class<?>                     type;
+        private final List<IValueObserver<Object>> observers = new ArrayList<> ();
+        private Object                             value;
+
+
+        StandInHandler (final Class<?> type, final Object initialValue)
+        {
+            this.type = type;
+            this.value = initialValue;
+        }
+
+
+        /** {@inheritDoc} */
+        @SuppressWarnings("unchecked")
+        @Override
+        public Object invoke (final Object proxy, final Method method, final Object [] args) throws Throwable
+        {
+            switch (method.getName ())
+            {
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "toString":
+                    return this.type.getSimpleName ();
+                default:
+                    break;
+            }
+
+            if (IValueSetting.class.isAssignableFrom (this.type))
+            {
+                switch (method.getName ())
+                {
+                    case "addValueObserver":
+                        final IValueObserver<Object> observer = (IValueObserver<Object>) args[0];
+                        this.observers.add (observer);
+                        if (this.value != null)
+                            observer.update (this.value);
+                        return null;
+                    case "get":
+                        return this.value;
+                    case "set":
+                        this.value = args[0];
+                        for (final IValueObserver<Object> o: this.observers)
+                            o.update (this.value);
+                        return null;
+                    default:
+                        break;
+                }
+            }
+
+            return ReplayEnvironment.this.handle (this, proxy, method, args);
+        }
+    }
+}
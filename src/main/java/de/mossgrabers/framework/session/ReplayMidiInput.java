@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * A MIDI input which is fed by the session replayer. It only keeps the callbacks which are set by
+ * the control surface. Bindings of hardware controls are resolved by the DAW and are therefore
+ * ignored, note inputs are not available.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayMidiInput implements IMidiInput
+{
+    private MidiShortCallback midiCallback;
+    private MidiSysExCallback sysexCallback;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /**
+     * Get the callback for short MIDI messages.
+     *
+     * @return The callback or null if none is set
+     */
+    public MidiShortCallback getMidiCallback ()
+    {
+        return this.midiCallback;
+    }
+
+
+    /**
+     * Get the callback for system exclusive messages.
+     *
+     * @return The callback or null if none is set
+     */
+    public MidiSysExCallback getSysexCallback ()
+    {
+        return this.sysexCallback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IHwButton button)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control, final int value)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteKnob absoluteKnob, final BindType type, final int channel, final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteControl absoluteControl, final BindType type, final int channel, final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        // Intentionally empty
+    }
+}
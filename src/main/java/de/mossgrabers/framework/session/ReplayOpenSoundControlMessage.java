@@ -0,0 +1,48 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+
+/**
+ * An OSC message which is read from a session file or created while replaying a session.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayOpenSoundControlMessage implements IOpenSoundControlMessage
+{
+    private final String    address;
+    private final Object [] values;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public ReplayOpenSoundControlMessage (final String address, final Object [] values)
+    {
+        this.address = address;
+        this.values = values.clone ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.values.clone ();
+    }
+}
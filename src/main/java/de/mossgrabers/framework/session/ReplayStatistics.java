@@ -0,0 +1,121 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import java.util.Arrays;
+
+
+/**
+ * The result of replaying a session: the latencies of the event handlers and the number of bytes
+ * which were sent to the controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayStatistics
+{
+    private final long [] latencies;
+    private final int     numSkipped;
+    private final long    outboundBytes;
+    private final long    duration;
+
+
+    /**
+     * Constructor.
+     *
+     * @param latencies The time each handled event spent in its handler in nanoseconds
+     * @param numSkipped The number of events for which no handler was registered
+     * @param outboundBytes The number of bytes sent to the controller
+     * @param duration The duration of the replay in nanoseconds
+     */
+    public ReplayStatistics (final long [] latencies, final int numSkipped, final long outboundBytes, final long duration)
+    {
+        this.latencies = latencies.clone ();
+        Arrays.sort (this.latencies);
+        this.numSkipped = numSkipped;
+        this.outboundBytes = outboundBytes;
+        this.duration = duration;
+    }
+
+
+    /**
+     * Get the number of events which were handed to a handler.
+     *
+     * @return The number of events
+     */
+    public int getNumHandled ()
+    {
+        return this.latencies.length;
+    }
+
+
+    /**
+     * Get the number of events for which no handler was registered.
+     *
+     * @return The number of events
+     */
+    public int getNumSkipped ()
+    {
+        return this.numSkipped;
+    }
+
+
+    /**
+     * Get a percentile of the handler latencies (nearest rank).
+     *
+     * @param percentile The percentile (0-100)
+     * @return The latency in nanoseconds, 0 if no event was handled
+     */
+    public long getLatencyPercentile (final double percentile)
+    {
+        if (this.latencies.length == 0)
+            return 0;
+        final int rank = (int) Math.ceil (percentile / 100.0 * this.latencies.length);
+        return this.latencies[Math.max (0, Math.min (this.latencies.length - 1, rank - 1))];
+    }
+
+
+    /**
+     * Get the number of bytes which were sent to the controller.
+     *
+     * @return The number of bytes
+     */
+    public long getOutboundBytes ()
+    {
+        return this.outboundBytes;
+    }
+
+
+    /**
+     * Get the duration of the replay.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getDuration ()
+    {
+        return this.duration;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        sb.append ("Events: ").append (this.getNumHandled ()).append (" handled, ").append (this.numSkipped).append (" skipped\n");
+        sb.append ("Handler latency (us): p50 ").append (toMicros (this.getLatencyPercentile (50)));
+        sb.append (", p90 ").append (toMicros (this.getLatencyPercentile (90)));
+        sb.append (", p99 ").append (toMicros (this.getLatencyPercentile (99)));
+        sb.append (", max ").append (toMicros (this.getLatencyPercentile (100))).append ('\n');
+        sb.append ("Outbound bytes: ").append (this.outboundBytes).append ('\n');
+        sb.append ("Duration (ms): ").append (this.duration / 1_000_000);
+        return sb.toString ();
+    }
+
+
+    private static long toMicros (final long nanos)
+    {
+        return nanos / 1000;
+    }
+}
@@ -0,0 +1,187 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+
+/**
+ * An event read from a recorded session.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionEvent
+{
+    private final int                      type;
+    private final long                     time;
+    private final int                      device;
+    private final int                      port;
+    private final int                      status;
+    private final int                      data1;
+    private final int                      data2;
+    private final String                   sysex;
+    private final IOpenSoundControlMessage oscMessage;
+
+
+    private SessionEvent (final int type, final long time, final int device, final int port, final int status, final int data1, final int data2, final String sysex, final IOpenSoundControlMessage oscMessage)
+    {
+        this.type = type;
+        this.time = time;
+        this.device = device;
+        this.port = port;
+        this.status = status;
+        this.data1 = data1;
+        this.data2 = data2;
+        this.sysex = sysex;
+        this.oscMessage = oscMessage;
+    }
+
+
+    /**
+     * Create a short MIDI message event.
+     *
+     * @param time The time of the event relative to the start of the session in nanoseconds
+     * @param device The device which received the event
+     * @param port The index of the MIDI input port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return The event
+     */
+    public static SessionEvent createMidi (final long time, final int device, final int port, final int status, final int data1, final int data2)
+    {
+        return new SessionEvent (SessionFormat.TYPE_MIDI, time, device, port, status, data1, data2, null, null);
+    }
+
+
+    /**
+     * Create a system exclusive MIDI message event.
+     *
+     * @param time The time of the event relative to the start of the session in nanoseconds
+     * @param device The device which received the event
+     * @param port The index of the MIDI input port
+     * @param data The data formatted as hex string
+     * @return The event
+     */
+    public static SessionEvent createSysex (final long time, final int device, final int port, final String data)
+    {
+        return new SessionEvent (SessionFormat.TYPE_SYSEX, time, device, port, 0, 0, 0, data, null);
+    }
+
+
+    /**
+     * Create an OSC message event.
+     *
+     * @param time The time of the event relative to the start of the session in nanoseconds
+     * @param device The device which received the event
+     * @param address The OSC address
+     * @param values The values of the message
+     * @return The event
+     */
+    public static SessionEvent createOSC (final long time, final int device, final String address, final Object [] values)
+    {
+        final IOpenSoundControlMessage message = new ReplayOpenSoundControlMessage (address, values);
+        return new SessionEvent (SessionFormat.TYPE_OSC, time, device, -1, 0, 0, 0, null, message);
+    }
+
+
+    /**
+     * Get the type of the event.
+     *
+     * @return The type, see the TYPE constants of SessionFormat
+     */
+    public int getType ()
+    {
+        return this.type;
+    }
+
+
+    /**
+     * Get the time of the event.
+     *
+     * @return The time relative to the start of the session in nanoseconds
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Get the device which received the event.
+     *
+     * @return The index of the device in the order in which the devices started recording
+     */
+    public int getDevice ()
+    {
+        return this.device;
+    }
+
+
+    /**
+     * Get the index of the MIDI input port which received the event.
+     *
+     * @return The index, -1 for OSC events
+     */
+    public int getPort ()
+    {
+        return this.port;
+    }
+
+
+    /**
+     * Get the status byte of a short MIDI message.
+     *
+     * @return The status byte
+     */
+    public int getStatus ()
+    {
+        return this.status;
+    }
+
+
+    /**
+     * Get the first data byte of a short MIDI message.
+     *
+     * @return The data byte
+     */
+    public int getData1 ()
+    {
+        return this.data1;
+    }
+
+
+    /**
+     * Get the second data byte of a short MIDI message.
+     *
+     * @return The data byte
+     */
+    public int getData2 ()
+    {
+        return this.data2;
+    }
+
+
+    /**
+     * Get the data of a system exclusive message.
+     *
+     * @return The data formatted as hex string, null for other events
+     */
+    public String getSysex ()
+    {
+        return this.sysex;
+    }
+
+
+    /**
+     * Get the OSC message.
+     *
+     * @return The message, null for other events
+     */
+    public IOpenSoundControlMessage getOSCMessage ()
+    {
+        return this.oscMessage;
+    }
+}
@@ -0,0 +1,158 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * The binary format of a recorded session. The file starts with a magic number followed by the
+ * events. Each event starts with its type, the time since the previous event in microseconds and the
+ * device which received it (both variable length), followed by the data of the event. A device
+ * identifies one controller extension, which allows to record several of them at the same time:
+ *
+ * <ul>
+ * <li>MIDI: the index of the input port and the status and 2 data bytes
+ * <li>System exclusive: the index of the input port and the data as text (hex string)
+ * <li>OSC: the address and the number of values, each value is stored with a type tag followed by
+ * its data
+ * </ul>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionFormat
+{
+    /** The magic number at the start of a session file ("MGS2"). */
+    public static final int  MAGIC            = 0x4D475332;
+
+    /** A short MIDI message. */
+    public static final int  TYPE_MIDI        = 1;
+    /** A system exclusive MIDI message. */
+    public static final int  TYPE_SYSEX       = 2;
+    /** An OSC message. */
+    public static final int  TYPE_OSC         = 3;
+
+    static final char        TAG_INT          = 'i';
+    static final char        TAG_LONG         = 'h';
+    static final char        TAG_FLOAT        = 'f';
+    static final char        TAG_DOUBLE       = 'd';
+    static final char        TAG_STRING       = 's';
+    static final char        TAG_BLOB         = 'b';
+    static final char        TAG_TRUE         = 'T';
+    static final char        TAG_FALSE        = 'F';
+    static final char        TAG_NULL         = 'N';
+
+    private static final int MAX_VARINT_SHIFT = 63;
+
+
+    /**
+     * Constructor, private due to help class.
+     */
+    private SessionFormat ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Write a positive number with a variable length (7 bits per byte).
+     *
+     * @param out Where to write to
+     * @param value The value, must not be negative
+     * @throws IOException Could not write the value
+     */
+    static void writeVarLong (final DataOutputStream out, final long value) throws IOException
+    {
+        long v = value;
+        while ((v & ~0x7FL) != 0)
+        {
+            out.writeByte ((int) (v & 0x7F | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte ((int) v);
+    }
+
+
+    /**
+     * Read a positive number with a variable length (7 bits per byte).
+     *
+     * @param in Where to read from
+     * @return The value
+     * @throws IOException Could not read the value
+     */
+    static long readVarLong (final DataInputStream in) throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += 7)
+        {
+            final int b = in.readUnsignedByte ();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException ("Malformed variable length number.");
+    }
+
+
+    /**
+     * Write a text with its length.
+     *
+     * @param out Where to write to
+     * @param text The text
+     * @throws IOException Could not write the text
+     */
+    static void writeText (final DataOutputStream out, final String text) throws IOException
+    {
+        writeData (out, text.getBytes (StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Read a text with its length.
+     *
+     * @param in Where to read from
+     * @return The text
+     * @throws IOException Could not read the text
+     */
+    static String readText (final DataInputStream in) throws IOException
+    {
+        return new String (readData (in), StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Write a byte array with its length.
+     *
+     * @param out Where to write to
+     * @param data The data
+     * @throws IOException Could not write the data
+     */
+    static void writeData (final DataOutputStream out, final byte [] data) throws IOException
+    {
+        writeVarLong (out, data.length);
+        out.write (data);
+    }
+
+
+    /**
+     * Read a byte array with its length.
+     *
+     * @param in Where to read from
+     * @return The data
+     * @throws IOException Could not read the data
+     */
+    static byte [] readData (final DataInputStream in) throws IOException
+    {
+        final long length = readVarLong (in);
+        if (length > Integer.MAX_VALUE)
+            throw new IOException ("Data block is too large.");
+        final byte [] data = new byte [(int) length];
+        in.readFully (data);
+        return data;
+    }
+}
@@ -0,0 +1,124 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+
+/**
+ * Reads the events of a session which was recorded with the session recorder.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionReader implements Closeable
+{
+    private final DataInputStream in;
+    private long                  time = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param file The session file
+     * @throws IOException Could not open the file or it is not a session file
+     */
+    public SessionReader (final File file) throws IOException
+    {
+        this.in = new DataInputStream (new BufferedInputStream (new FileInputStream (file)));
+        if (this.in.readInt () != SessionFormat.MAGIC)
+        {
+            this.in.close ();
+            throw new IOException ("Not a session file: " + file);
+        }
+    }
+
+
+    /**
+     * Read the next event.
+     *
+     * @return The event or null if the end of the session is reached
+     * @throws IOException Could not read the event
+     */
+    public SessionEvent read () throws IOException
+    {
+        final int type = this.in.read ();
+        if (type < 0)
+            return null;
+
+        this.time += SessionFormat.readVarLong (this.in) * 1000;
+        final long device = SessionFormat.readVarLong (this.in);
+        if (device > Integer.MAX_VALUE)
+            throw new IOException ("Illegal device index.");
+
+        switch (type)
+        {
+            case SessionFormat.TYPE_MIDI:
+                final int port = this.in.readUnsignedByte ();
+                final int status = this.in.readUnsignedByte ();
+                final int data1 = this.in.readUnsignedByte ();
+                final int data2 = this.in.readUnsignedByte ();
+                return SessionEvent.createMidi (this.time, (int) device, port, status, data1, data2);
+
+            case SessionFormat.TYPE_SYSEX:
+                final int sysexPort = this.in.readUnsignedByte ();
+                return SessionEvent.createSysex (this.time, (int) device, sysexPort, SessionFormat.readText (this.in));
+
+            case SessionFormat.TYPE_OSC:
+                final String address = SessionFormat.readText (this.in);
+                final long numValues = SessionFormat.readVarLong (this.in);
+                if (numValues > Integer.MAX_VALUE)
+                    throw new IOException ("Too many OSC values.");
+                final Object [] values = new Object [(int) numValues];
+                for (int i = 0; i < values.length; i++)
+                    values[i] = this.readValue ();
+                return SessionEvent.createOSC (this.time, (int) device, address, values);
+
+            default:
+                throw new IOException ("Unknown event type: " + type);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.in.close ();
+    }
+
+
+    private Object readValue () throws IOException
+    {
+        final char tag = (char) this.in.readUnsignedByte ();
+        switch (tag)
+        {
+            case SessionFormat.TAG_INT:
+                return Integer.valueOf (this.in.readInt ());
+            case SessionFormat.TAG_LONG:
+                return Long.valueOf (this.in.readLong ());
+            case SessionFormat.TAG_FLOAT:
+                return Float.valueOf (this.in.readFloat ());
+            case SessionFormat.TAG_DOUBLE:
+                return Double.valueOf (this.in.readDouble ());
+            case SessionFormat.TAG_STRING:
+                return SessionFormat.readText (this.in);
+            case SessionFormat.TAG_BLOB:
+                return SessionFormat.readData (this.in);
+            case SessionFormat.TAG_TRUE:
+                return Boolean.TRUE;
+            case SessionFormat.TAG_FALSE:
+                return Boolean.FALSE;
+            case SessionFormat.TAG_NULL:
+                return null;
+            default:
+                throw new IOException ("Unknown OSC value type: " + tag);
+        }
+    }
+}
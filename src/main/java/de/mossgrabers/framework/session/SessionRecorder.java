@@ -0,0 +1,352 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.utils.ConsoleLogger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Records all MIDI and OSC messages which are received from a controller into a file with time
+ * stamps. The file can be replayed with the session replayer to measure the handling of the
+ * messages without the hardware. All controller extensions which are running at the same time
+ * record into the same file, their events are distinguished by a device index. The recording is
+ * buffered, the buffer is written to the file with the first event after a second has passed since
+ * the last write and when an extension exits. The file is closed when all recording extensions have
+ * exited, events received afterwards are ignored.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionRecorder
+{
+    /** The system property which contains the file to record the session to. */
+    public static final String     PROPERTY_FILE   = "de.mossgrabers.session.record";
+
+    private static final long      FLUSH_INTERVAL  = 1_000_000_000L;
+
+    private static SessionRecorder activeRecorder;
+    private static boolean         isActiveChecked = false;
+
+    private final File                 file;
+    private final DataOutputStream     out;
+    private final Map<Object, Integer> devices    = new IdentityHashMap<> ();
+    private int                        nextDevice = 0;
+    private long                       lastEventTime;
+    private long                       lastFlushTime;
+    private long                       numEvents  = 0;
+    private boolean                    isClosed   = false;
+
+
+    /**
+     * Constructor. Creates or overwrites the file.
+     *
+     * @param file The file to record to
+     * @throws IOException Could not create the file
+     */
+    public SessionRecorder (final File file) throws IOException
+    {
+        this.file = file;
+        this.out = new DataOutputStream (new BufferedOutputStream (new FileOutputStream (file)));
+        this.out.writeInt (SessionFormat.MAGIC);
+
+        this.lastEventTime = System.nanoTime ();
+        this.lastFlushTime = this.lastEventTime;
+    }
+
+
+    /**
+     * Get the recorder which was activated by setting the system property PROPERTY_FILE to the file
+     * to record to.
+     *
+     * @return The recorder or null if recording is not active
+     */
+    public static synchronized SessionRecorder getActive ()
+    {
+        if (isActiveChecked)
+            return activeRecorder;
+        isActiveChecked = true;
+
+        final String filename = System.getProperty (PROPERTY_FILE);
+        if (filename == null || filename.trim ().isEmpty ())
+            return null;
+
+        try
+        {
+            activeRecorder = new SessionRecorder (new File (filename));
+            ConsoleLogger.log ("Recording session to " + filename);
+        }
+        catch (final IOException ex)
+        {
+            ConsoleLogger.log ("Could not create session file " + filename + ": " + ex.getLocalizedMessage ());
+        }
+        return activeRecorder;
+    }
+
+
+    /**
+     * Signal that a controller extension has exited. Writes all buffered events to the file and
+     * closes it if it was the last extension which recorded events.
+     *
+     * @param owner The object which identifies the extension, see wrap
+     */
+    public static synchronized void release (final Object owner)
+    {
+        if (activeRecorder != null)
+            activeRecorder.releaseDevice (owner);
+    }
+
+
+    /**
+     * Wrap a MIDI input. All messages received by the callbacks of the returned input are recorded.
+     *
+     * @param owner An object which identifies the controller extension which uses the input, e.g.
+     *            the host object of the DAW
+     * @param port The index of the MIDI input port
+     * @param input The input to wrap
+     * @return The wrapped input
+     */
+    public IMidiInput wrap (final Object owner, final int port, final IMidiInput input)
+    {
+        return new RecordingMidiInput (this, this.getDevice (owner), port, input);
+    }
+
+
+    /**
+     * Wrap an OSC callback. All messages handled by the returned callback are recorded.
+     *
+     * @param owner An object which identifies the controller extension which uses the callback,
+     *            e.g. the host object of the DAW
+     * @param callback The callback to wrap
+     * @return The wrapped callback
+     */
+    public IOpenSoundControlCallback wrap (final Object owner, final IOpenSoundControlCallback callback)
+    {
+        final int device = this.getDevice (owner);
+        return message -> {
+            this.recordOSC (device, message);
+            callback.handle (message);
+        };
+    }
+
+
+    /**
+     * Record a short MIDI message.
+     *
+     * @param device The index of the device which received the message
+     * @param port The index of the MIDI input port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public synchronized void recordMidi (final int device, final int port, final int status, final int data1, final int data2)
+    {
+        if (this.isClosed)
+            return;
+
+        try
+        {
+            this.writeHeader (SessionFormat.TYPE_MIDI, device);
+            this.out.writeByte (port);
+            this.out.writeByte (status);
+            this.out.writeByte (data1);
+            this.out.writeByte (data2);
+            this.finishEvent ();
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Record a system exclusive MIDI message.
+     *
+     * @param device The index of the device which received the message
+     * @param port The index of the MIDI input port
+     * @param data The data formatted as hex string
+     */
+    public synchronized void recordSysex (final int device, final int port, final String data)
+    {
+        if (this.isClosed)
+            return;
+
+        try
+        {
+            this.writeHeader (SessionFormat.TYPE_SYSEX, device);
+            this.out.writeByte (port);
+            SessionFormat.writeText (this.out, data);
+            this.finishEvent ();
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Record an OSC message. Values of an unknown type are recorded as text.
+     *
+     * @param device The index of the device which received the message
+     * @param message The message
+     */
+    public synchronized void recordOSC (final int device, final IOpenSoundControlMessage message)
+    {
+        if (this.isClosed)
+            return;
+
+        try
+        {
+            this.writeHeader (SessionFormat.TYPE_OSC, device);
+            SessionFormat.writeText (this.out, message.getAddress ());
+            final Object [] values = message.getValues ();
+            SessionFormat.writeVarLong (this.out, values.length);
+            for (final Object value: values)
+                this.writeValue (value);
+            this.finishEvent ();
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    /**
+     * Get the number of recorded events.
+     *
+     * @return The number of events
+     */
+    public synchronized long getNumEvents ()
+    {
+        return this.numEvents;
+    }
+
+
+    /**
+     * Write all buffered events and close the file. Further events are ignored.
+     *
+     * @throws IOException Could not close the file
+     */
+    public synchronized void close () throws IOException
+    {
+        if (this.isClosed)
+            return;
+        this.isClosed = true;
+        this.out.close ();
+    }
+
+
+    private synchronized int getDevice (final Object owner)
+    {
+        return this.devices.computeIfAbsent (owner, key -> Integer.valueOf (this.nextDevice++)).intValue ();
+    }
+
+
+    private synchronized void releaseDevice (final Object owner)
+    {
+        if (this.isClosed || this.devices.remove (owner) == null)
+            return;
+
+        try
+        {
+            if (this.devices.isEmpty ())
+                this.close ();
+            else
+                this.out.flush ();
+        }
+        catch (final IOException ex)
+        {
+            this.handleError (ex);
+        }
+    }
+
+
+    private void writeHeader (final int type, final int device) throws IOException
+    {
+        final long now = System.nanoTime ();
+        // Store the time in microseconds to keep the variable length numbers short
+        final long delta = Math.max (0, (now - this.lastEventTime) / 1000);
+        this.lastEventTime += delta * 1000;
+
+        this.out.writeByte (type);
+        SessionFormat.writeVarLong (this.out, delta);
+        SessionFormat.writeVarLong (this.out, device);
+    }
+
+
+    private void finishEvent () throws IOException
+    {
+        this.numEvents++;
+        if (this.lastEventTime - this.lastFlushTime < FLUSH_INTERVAL)
+            return;
+        this.out.flush ();
+        this.lastFlushTime = this.lastEventTime;
+    }
+
+
+    private void writeValue (final Object value) throws IOException
+    {
+        if (value == null)
+            this.out.writeByte (SessionFormat.TAG_NULL);
+        else if (value instanceof Integer)
+        {
+            this.out.writeByte (SessionFormat.TAG_INT);
+            this.out.writeInt (((Integer) value).intValue ());
+        }
+        else if (value instanceof Long)
+        {
+            this.out.writeByte (SessionFormat.TAG_LONG);
+            this.out.writeLong (((Long) value).longValue ());
+        }
+        else if (value instanceof Float)
+        {
+            this.out.writeByte (SessionFormat.TAG_FLOAT);
+            this.out.writeFloat (((Float) value).floatValue ());
+        }
+        else if (value instanceof Double)
+        {
+            this.out.writeByte (SessionFormat.TAG_DOUBLE);
+            this.out.writeDouble (((Double) value).doubleValue ());
+        }
+        else if (value instanceof Boolean)
+            this.out.writeByte (((Boolean) value).booleanValue () ? SessionFormat.TAG_TRUE : SessionFormat.TAG_FALSE);
+        else if (value instanceof byte [])
+        {
+            this.out.writeByte (SessionFormat.TAG_BLOB);
+            SessionFormat.writeData (this.out, (byte []) value);
+        }
+        else
+        {
+            this.out.writeByte (SessionFormat.TAG_STRING);
+            SessionFormat.writeText (this.out, value.toString ());
+        }
+    }
+
+
+    private void handleError (final IOException ex)
+    {
+        ConsoleLogger.log ("Could not write to session file " + this.file + ", recording stopped: " + ex.getLocalizedMessage ());
+        try
+        {
+            this.close ();
+        }
+        catch (final IOException closeEx)
+        {
+            // Already reported
+        }
+    }
+}
@@ -0,0 +1,217 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.session;
+
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Replays a session recorded with the session recorder. The replayer acts as the MIDI access and
+ * OSC server of a control surface: the surface registers its callbacks on the MIDI inputs created
+ * by the replayer (and its OSC callback with createOSCServer) and the recorded events are handed to
+ * these callbacks. The MIDI outputs and OSC clients created by the replayer only count the bytes
+ * which would have been sent. Since a session file contains the events of all controller
+ * extensions which were running while recording, only the events of one device are replayed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionReplayer implements IMidiAccess
+{
+    private static final ReplayMidiInput        EMPTY_INPUT   = new ReplayMidiInput ();
+
+    private final Map<Integer, ReplayMidiInput> inputs        = new HashMap<> ();
+    private final AtomicLong                    outboundBytes = new AtomicLong ();
+    private IOpenSoundControlCallback           oscCallback;
+    private Runnable                            flushHandler;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return new CountingMidiOutput (this.outboundBytes);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        return new CountingMidiOutput (this.outboundBytes);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return this.createInput (0, name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        return this.inputs.computeIfAbsent (Integer.valueOf (index), key -> new ReplayMidiInput ());
+    }
+
+
+    /**
+     * Create the OSC server which receives the recorded OSC messages.
+     *
+     * @param callback The callback which handles the OSC messages
+     * @return The server, starting it has no effect
+     */
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        this.oscCallback = callback;
+        return port -> {
+            // Intentionally empty
+        };
+    }
+
+
+    /**
+     * Create an OSC client which counts the sent bytes.
+     *
+     * @return The client
+     */
+    public IOpenSoundControlClient connectToOSCServer ()
+    {
+        return new CountingOpenSoundControlClient (this.outboundBytes);
+    }
+
+
+    /**
+     * Set a handler which is called after each event, e.g. to flush the control surface like the
+     * DAW does after it has processed incoming messages. The time spent in the handler is not part
+     * of the handler latencies but the bytes it sends are counted.
+     *
+     * @param flushHandler The handler, null to remove it
+     */
+    public void setFlushHandler (final Runnable flushHandler)
+    {
+        this.flushHandler = flushHandler;
+    }
+
+
+    /**
+     * Replay a recorded session. Must be called from the thread which is used for the control
+     * surface.
+     *
+     * @param file The session file
+     * @param device The index of the device whose events to replay, the events of all other devices
+     *            are ignored
+     * @param useRecordedTiming If true, the events are replayed with the recorded timing, otherwise
+     *            as fast as possible
+     * @return The statistics of the replay
+     * @throws IOException Could not read the session file
+     */
+    public ReplayStatistics replay (final File file, final int device, final boolean useRecordedTiming) throws IOException
+    {
+        long [] latencies = new long [1024];
+        int numHandled = 0;
+        int numSkipped = 0;
+        this.outboundBytes.set (0);
+
+        final long startTime = System.nanoTime ();
+        try (final SessionReader reader = new SessionReader (file))
+        {
+            SessionEvent event;
+            while ((event = reader.read ()) != null)
+            {
+                if (event.getDevice () != device)
+                    continue;
+
+                if (useRecordedTiming)
+                    waitUntil (startTime + event.getTime ());
+
+                final long start = System.nanoTime ();
+                if (!this.handle (event))
+                {
+                    numSkipped++;
+                    continue;
+                }
+                final long latency = System.nanoTime () - start;
+
+                if (numHandled == latencies.length)
+                    latencies = Arrays.copyOf (latencies, numHandled * 2);
+                latencies[numHandled++] = latency;
+
+                if (this.flushHandler != null)
+                    this.flushHandler.run ();
+            }
+        }
+
+        return new ReplayStatistics (Arrays.copyOf (latencies, numHandled), numSkipped, this.outboundBytes.get (), System.nanoTime () - startTime);
+    }
+
+
+    /**
+     * Hand the event to its callback.
+     *
+     * @param event The event
+     * @return False if there is no callback registered for the event
+     */
+    private boolean handle (final SessionEvent event)
+    {
+        switch (event.getType ())
+        {
+            case SessionFormat.TYPE_MIDI:
+                final MidiShortCallback midiCallback = this.getInput (event.getPort ()).getMidiCallback ();
+                if (midiCallback == null)
+                    return false;
+                midiCallback.handleMidi (event.getStatus (), event.getData1 (), event.getData2 ());
+                return true;
+
+            case SessionFormat.TYPE_SYSEX:
+                final MidiSysExCallback sysexCallback = this.getInput (event.getPort ()).getSysexCallback ();
+                if (sysexCallback == null)
+                    return false;
+                sysexCallback.handleMidi (event.getSysex ());
+                return true;
+
+            case SessionFormat.TYPE_OSC:
+                if (this.oscCallback == null)
+                    return false;
+                this.oscCallback.handle (event.getOSCMessage ());
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+
+    private ReplayMidiInput getInput (final int port)
+    {
+        final ReplayMidiInput input = this.inputs.get (Integer.valueOf (port));
+        return input == null ? EMPTY_INPUT : input;
+    }
+
+
+    private static void waitUntil (final long time)
+    {
+        long remaining;
+        while ((remaining = time - System.nanoTime ()) > 0)
+            LockSupport.parkNanos (remaining);
+    }
+}
@@ -6,14 +6,14 @@ package de.mossgrabers.framework.utils;
 
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Optional;
 
 
 /**
@@ -23,11 +23,13 @@ import java.util.Optional;
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
+    private final int []   pressedKeys  = new int [128];
+    private final BitSet   pressedPads  = new BitSet (128);
     private final IModel   model;
     private final Scales   scales;
     private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private int []         noteMap      = Scales.getEmptyMatrix ();
+    private int [][]       padsForNote  = Scales.createInverseMatrix (this.noteMap);
 
 
     /**
@@ -52,6 +54,7 @@ public class KeyManager implements INoteObserver
     public void clearPressedKeys ()
     {
         Arrays.fill (this.pressedKeys, 0);
+        this.pressedPads.clear ();
     }
 
 
@@ -76,6 +79,7 @@ public class KeyManager implements INoteObserver
     public void setKeyPressed (final int key, final int velocity)
     {
         this.pressedKeys[key] = velocity;
+        this.pressedPads.set (key, velocity != 0);
     }
 
 
@@ -87,11 +91,10 @@ public class KeyManager implements INoteObserver
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
-        }
+        if (key < 0 || key >= this.padsForNote.length)
+            return;
+        for (final int pad: this.padsForNote[key])
+            this.setKeyPressed (pad, velocity);
     }
 
 
@@ -99,9 +102,16 @@ public class KeyManager implements INoteObserver
     @Override
     public void call (final int trackIndex, final int note, final int velocity)
     {
-        final Optional<ITrack> sel = this.model.getCurrentTrackBank ().getSelectedItem ();
-        if (sel.isPresent () && sel.get ().getIndex () == trackIndex)
-            this.setAllKeysPressed (note, velocity);
+        // The track must be the first selected track of the page
+        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+        if (trackIndex < 0 || trackIndex >= trackBank.getPageSize () || !trackBank.getItem (trackIndex).isSelected ())
+            return;
+        for (int i = 0; i < trackIndex; i++)
+        {
+            if (trackBank.getItem (i).isSelected ())
+                return;
+        }
+        this.setAllKeysPressed (note, velocity);
     }
 
 
@@ -112,16 +122,38 @@ public class KeyManager implements INoteObserver
      */
     public List<Integer> getPressedKeys ()
     {
-        final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
-        }
+        final List<Integer> keys = new ArrayList<> (this.pressedPads.cardinality ());
+        for (int key = this.nextPressedKey (0); key >= 0; key = this.nextPressedKey (key + 1))
+            keys.add (Integer.valueOf (key));
         return keys;
     }
 
 
+    /**
+     * Get the next pressed key. Iterate all pressed keys in ascending order without creating any
+     * objects with:
+     * <code>for (int key = keyManager.nextPressedKey (0); key >= 0; key = keyManager.nextPressedKey (key + 1))</code>
+     *
+     * @param fromKey The key to start searching from (inclusive)
+     * @return The next pressed key or -1 if there is none
+     */
+    public int nextPressedKey (final int fromKey)
+    {
+        return this.pressedPads.nextSetBit (fromKey);
+    }
+
+
+    /**
+     * Get the number of pressed keys.
+     *
+     * @return The number of keys
+     */
+    public int getNumPressedKeys ()
+    {
+        return this.pressedPads.cardinality ();
+    }
+
+
     /**
      * Check if there are pressed keys.
      *
@@ -129,12 +161,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return !this.pressedPads.isEmpty ();
     }
 
 
@@ -185,5 +212,6 @@ public class KeyManager implements INoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+        this.padsForNote = this.scales.getInverseMatrix (matrix);
     }
 }
@@ -4,31 +4,53 @@
 
 package de.mossgrabers.framework.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
  * Executes only one task. When new tasks arrive for execution only the latest one will be stored
- * for execution.
+ * for execution. The tasks are executed one after the other on the thread pool shared by all
+ * senders (see OutputExecutor). Lanes whose tasks block (e.g. synchronous USB transfers) get their
+ * own thread instead, since the shared pool has only a few threads which they could occupy.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class LatestTaskExecutor implements Executor
 {
-    private final AtomicReference<Runnable> lastTask = new AtomicReference<> ();
-    private final ExecutorService           executor;
+    private final AtomicReference<Runnable> lastTask         = new AtomicReference<> ();
+    private final AtomicLong                droppedTasks     = new AtomicLong ();
+    private final List<ScheduledFuture<?>>  scheduledTasks   = new ArrayList<> ();
+    private final ScheduledExecutorService  executor;
+    private boolean                         isShutdown       = false;
+    private boolean                         isDrainScheduled = false;
 
 
     /**
-     * Constructor.
+     * Constructor. Uses the shared thread pool.
      */
     public LatestTaskExecutor ()
     {
-        this.executor = Executors.newSingleThreadExecutor ();
+        this (false);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param isBlocking Set to true if the tasks block the executing thread for a longer time, e.g.
+     *            synchronous USB transfers. The lane then gets its own thread
+     */
+    public LatestTaskExecutor (final boolean isBlocking)
+    {
+        this.executor = isBlocking ? OutputExecutor.openDedicated (this) : OutputExecutor.open (this);
     }
 
 
@@ -36,21 +58,68 @@ public class LatestTaskExecutor implements Executor
     @Override
     public void execute (final Runnable command)
     {
-        this.lastTask.set (command);
-        this.executor.execute ( () -> {
-            final Runnable task = this.lastTask.getAndSet (null);
-            if (task != null)
-                task.run ();
-        });
+        if (this.lastTask.getAndSet (command) != null)
+            this.droppedTasks.incrementAndGet ();
+
+        synchronized (this)
+        {
+            if (!this.isShutdown && !this.isDrainScheduled)
+                this.scheduleDrain ();
+        }
     }
 
 
     /**
-     * Shutdown the executor.
+     * Executes a task periodically in this lane until the executor is shut down.
+     *
+     * @param command The task to execute
+     * @param initialDelay The time to delay first execution
+     * @param period The period between successive executions
+     * @param unit The time unit of the initialDelay and period parameters
+     */
+    public synchronized void scheduleAtFixedRate (final Runnable command, final long initialDelay, final long period, final TimeUnit unit)
+    {
+        if (!this.isShutdown)
+            this.scheduledTasks.add (this.executor.scheduleAtFixedRate ( () -> this.execute (command), initialDelay, period, unit));
+    }
+
+
+    /**
+     * Executes a task once in this lane after the given delay. A task which is stored for
+     * execution at that time is replaced.
+     *
+     * @param command The task to execute
+     * @param delay The time to delay the execution
+     * @param unit The time unit of the delay parameter
+     */
+    public synchronized void schedule (final Runnable command, final long delay, final TimeUnit unit)
+    {
+        if (!this.isShutdown)
+            this.executor.schedule ( () -> this.execute (command), delay, unit);
+    }
+
+
+    /**
+     * Shutdown the executor. Already stored tasks are still executed.
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        synchronized (this)
+        {
+            if (this.isShutdown)
+                return;
+            this.isShutdown = true;
+            for (final ScheduledFuture<?> scheduledTask: this.scheduledTasks)
+                scheduledTask.cancel (false);
+            this.scheduledTasks.clear ();
+
+            // Execute a task which was stored but not yet scheduled
+            if (!this.isDrainScheduled && this.lastTask.get () != null)
+                this.scheduleDrain ();
+        }
+
+        // Note: the pool might be shut down now but still executes the already submitted tasks
+        OutputExecutor.close (this);
     }
 
 
@@ -59,9 +128,9 @@ public class LatestTaskExecutor implements Executor
      *
      * @return {@code true} if this executor has been shut down
      */
-    public boolean isShutdown ()
+    public synchronized boolean isShutdown ()
     {
-        return this.executor.isShutdown ();
+        return this.isShutdown;
     }
 
 
@@ -75,8 +144,100 @@ public class LatestTaskExecutor implements Executor
      *         before termination
      * @throws InterruptedException if interrupted while waiting
      */
-    public boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
+    public synchronized boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
+    {
+        final long end = System.nanoTime () + unit.toNanos (timeout);
+        while (!this.isShutdown || this.isDrainScheduled)
+        {
+            final long remaining = end - System.nanoTime ();
+            if (remaining <= 0)
+                return false;
+            TimeUnit.NANOSECONDS.timedWait (this, remaining);
+        }
+        return true;
+    }
+
+
+    /**
+     * Is there a task waiting for execution?
+     *
+     * @return True if a task is waiting
+     */
+    public boolean hasPendingTask ()
+    {
+        return this.lastTask.get () != null;
+    }
+
+
+    /**
+     * Get the number of tasks which were replaced by a newer one before they were executed.
+     *
+     * @return The number of dropped tasks
+     */
+    public long getDroppedTasks ()
+    {
+        return this.droppedTasks.get ();
+    }
+
+
+    /**
+     * Executes the stored tasks one after the other until there is no more task.
+     */
+    private void drain ()
+    {
+        while (true)
+        {
+            final Runnable task = this.lastTask.getAndSet (null);
+            if (task != null)
+            {
+                try
+                {
+                    task.run ();
+                }
+                catch (final RuntimeException ex)
+                {
+                    // Do not block the lane, continue in a new drain with a task which was added
+                    // in the meantime
+                    synchronized (this)
+                    {
+                        this.isDrainScheduled = false;
+                        if (this.lastTask.get () != null)
+                            this.scheduleDrain ();
+                        this.notifyAll ();
+                    }
+                    throw ex;
+                }
+                continue;
+            }
+
+            synchronized (this)
+            {
+                // Check again, a task might have been added in the meantime
+                if (this.lastTask.get () == null)
+                {
+                    this.isDrainScheduled = false;
+                    this.notifyAll ();
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Submit a drain of the stored tasks to the thread pool. Must be called while holding the lock.
+     */
+    private void scheduleDrain ()
     {
-        return this.executor.awaitTermination (timeout, unit);
+        this.isDrainScheduled = true;
+        try
+        {
+            this.executor.execute (this::drain);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // The pool was already shut down, the stored task can no longer be executed
+            this.isDrainScheduled = false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A map with a limited number of entries. If the limit is reached the least recently used entry is
+ * removed. Counts the number of hits and misses of lookups. Not thread safe.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LruCache<K, V>
+{
+    private final Map<K, V> entries;
+    private long            hits   = 0;
+    private long            misses = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of entries
+     */
+    public LruCache (final int capacity)
+    {
+        this.entries = new LinkedHashMap<> (16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<K, V> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Get the value for a key and mark it as recently used.
+     *
+     * @param key The key
+     * @return The value or null if not present
+     */
+    public V get (final K key)
+    {
+        final V value = this.entries.get (key);
+        if (value == null)
+            this.misses++;
+        else
+            this.hits++;
+        return value;
+    }
+
+
+    /**
+     * Add a value. Removes the least recently used entry if the capacity is exceeded.
+     *
+     * @param key The key
+     * @param value The value
+     */
+    public void put (final K key, final V value)
+    {
+        this.entries.put (key, value);
+    }
+
+
+    /**
+     * Remove all entries.
+     */
+    public void clear ()
+    {
+        this.entries.clear ();
+    }
+
+
+    /**
+     * Get the number of entries.
+     *
+     * @return The number of entries
+     */
+    public int size ()
+    {
+        return this.entries.size ();
+    }
+
+
+    /**
+     * Get the number of lookups which found a value.
+     *
+     * @return The number of hits
+     */
+    public long getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of lookups which did not find a value.
+     *
+     * @return The number of misses
+     */
+    public long getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Get the ratio of lookups which found a value.
+     *
+     * @return The hit rate in the range of [0..1]
+     */
+    public double getHitRate ()
+    {
+        final long lookups = this.hits + this.misses;
+        return lookups == 0 ? 0 : (double) this.hits / lookups;
+    }
+}
@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A small thread pool which is shared by all senders of displays and USB devices. Each sender uses
+ * its own serial lane (see LatestTaskExecutor) on top of the pool. The pool is created when the
+ * first lane is opened and shut down when the last lane is closed. Lanes with blocking tasks use a
+ * dedicated thread, otherwise a few of them could occupy all threads of the pool.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OutputExecutor
+{
+    /** The maximum number of threads. */
+    private static final int                     POOL_SIZE = 2;
+
+    private static final Set<LatestTaskExecutor>                              LANES     = new HashSet<> ();
+    private static final Map<LatestTaskExecutor, ScheduledThreadPoolExecutor> DEDICATED = new HashMap<> ();
+    private static final AtomicInteger                                        COUNTER   = new AtomicInteger ();
+    private static ScheduledThreadPoolExecutor                                pool;
+    private static long                                                       droppedTasksOfClosedLanes;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private OutputExecutor ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Register a lane. Creates the thread pool if necessary.
+     *
+     * @param lane The lane to register
+     * @return The thread pool to use
+     */
+    static synchronized ScheduledExecutorService open (final LatestTaskExecutor lane)
+    {
+        if (pool == null)
+            pool = createPool (POOL_SIZE);
+        LANES.add (lane);
+        return pool;
+    }
+
+
+    /**
+     * Register a lane which gets its own thread, which is used for lanes whose tasks block.
+     *
+     * @param lane The lane to register
+     * @return The thread pool to use, which only contains one thread
+     */
+    static synchronized ScheduledExecutorService openDedicated (final LatestTaskExecutor lane)
+    {
+        final ScheduledThreadPoolExecutor dedicatedPool = createPool (1);
+        DEDICATED.put (lane, dedicatedPool);
+        LANES.add (lane);
+        return dedicatedPool;
+    }
+
+
+    /**
+     * Unregister a lane. If it was the last one the thread pool is shut down.
+     *
+     * @param lane The lane to unregister
+     */
+    static synchronized void close (final LatestTaskExecutor lane)
+    {
+        if (!LANES.remove (lane))
+            return;
+        droppedTasksOfClosedLanes += lane.getDroppedTasks ();
+
+        final ScheduledThreadPoolExecutor dedicatedPool = DEDICATED.remove (lane);
+        if (dedicatedPool != null)
+        {
+            dedicatedPool.shutdown ();
+            return;
+        }
+
+        if (pool == null || LANES.size () > DEDICATED.size ())
+            return;
+        pool.shutdown ();
+        pool = null;
+    }
+
+
+    /**
+     * Get the number of threads which are currently alive in the pool and of the lanes with a
+     * dedicated thread.
+     *
+     * @return The number of threads
+     */
+    public static synchronized int getThreadCount ()
+    {
+        int count = pool == null ? 0 : pool.getPoolSize ();
+        for (final ScheduledThreadPoolExecutor dedicatedPool: DEDICATED.values ())
+            count += dedicatedPool.getPoolSize ();
+        return count;
+    }
+
+
+    /**
+     * Get the number of open lanes.
+     *
+     * @return The number of lanes
+     */
+    public static synchronized int getLaneCount ()
+    {
+        return LANES.size ();
+    }
+
+
+    /**
+     * Get the number of tasks which are waiting for execution in all lanes.
+     *
+     * @return The number of waiting tasks
+     */
+    public static synchronized int getBacklog ()
+    {
+        int backlog = 0;
+        for (final LatestTaskExecutor lane: LANES)
+        {
+            if (lane.hasPendingTask ())
+                backlog++;
+        }
+        return backlog;
+    }
+
+
+    /**
+     * Get the number of tasks which were replaced by a newer one before they were executed.
+     *
+     * @return The number of dropped tasks of all lanes, including the ones already closed
+     */
+    public static synchronized long getDroppedTasks ()
+    {
+        long dropped = droppedTasksOfClosedLanes;
+        for (final LatestTaskExecutor lane: LANES)
+            dropped += lane.getDroppedTasks ();
+        return dropped;
+    }
+
+
+    private static ScheduledThreadPoolExecutor createPool (final int size)
+    {
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread (runnable, "DrivenByMoss Output " + COUNTER.incrementAndGet ());
+            thread.setDaemon (true);
+            return thread;
+        };
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor (size, threadFactory);
+        executor.setRemoveOnCancelPolicy (true);
+        executor.setKeepAliveTime (10, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut (true);
+        return executor;
+    }
+}
@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Formats the fields of a position (e.g. measure.quarters.eights:ticks) into a re-used character
+ * buffer. Each field is formatted like the "%d" or "%0Nd" format specifier. The text of the last
+ * formatted position is kept and returned without creating a new string if the fields have not
+ * changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PositionFormatter
+{
+    private final int []  widths;
+    private final char [] separators;
+    private final char [] buffer;
+
+    private final int [] lastValues;
+    private String       lastText;
+
+
+    /**
+     * Constructor.
+     *
+     * @param widths The minimum width of each field, the field is padded with leading zeros, 0 for
+     *            no padding
+     * @param separators The characters to insert between the fields, must be one less than the
+     *            number of fields
+     */
+    public PositionFormatter (final int [] widths, final char [] separators)
+    {
+        if (separators.length != widths.length - 1)
+            throw new IllegalArgumentException ("There must be one separator less than fields.");
+
+        this.widths = widths.clone ();
+        this.separators = separators.clone ();
+        // Sign and 10 digits of each integer plus the separators
+        int size = separators.length;
+        for (final int width: widths)
+            size += Math.max (width, 11);
+        this.buffer = new char [size];
+        this.lastValues = new int [widths.length];
+    }
+
+
+    /**
+     * Format a position with 3 fields.
+     *
+     * @param value1 The value of the 1st field
+     * @param value2 The value of the 2nd field
+     * @param value3 The value of the 3rd field
+     * @return The formatted text
+     */
+    public synchronized String format (final int value1, final int value2, final int value3)
+    {
+        if (this.lastText != null && this.lastValues[0] == value1 && this.lastValues[1] == value2 && this.lastValues[2] == value3)
+            return this.lastText;
+
+        this.lastValues[0] = value1;
+        this.lastValues[1] = value2;
+        this.lastValues[2] = value3;
+        return this.formatLastValues ();
+    }
+
+
+    /**
+     * Format a position with 4 fields.
+     *
+     * @param value1 The value of the 1st field
+     * @param value2 The value of the 2nd field
+     * @param value3 The value of the 3rd field
+     * @param value4 The value of the 4th field
+     * @return The formatted text
+     */
+    public synchronized String format (final int value1, final int value2, final int value3, final int value4)
+    {
+        if (this.lastText != null && this.lastValues[0] == value1 && this.lastValues[1] == value2 && this.lastValues[2] == value3 && this.lastValues[3] == value4)
+            return this.lastText;
+
+        this.lastValues[0] = value1;
+        this.lastValues[1] = value2;
+        this.lastValues[2] = value3;
+        this.lastValues[3] = value4;
+        return this.formatLastValues ();
+    }
+
+
+    private String formatLastValues ()
+    {
+        int pos = 0;
+        for (int i = 0; i < this.widths.length; i++)
+        {
+            if (i > 0)
+                this.buffer[pos++] = this.separators[i - 1];
+            pos = this.appendNumber (this.lastValues[i], this.widths[i], pos);
+        }
+        this.lastText = new String (this.buffer, 0, pos);
+        return this.lastText;
+    }
+
+
+    /**
+     * Write the decimal digits of a number into the buffer. The sign counts into the width like
+     * with the "%0Nd" format specifier.
+     *
+     * @param value The number to write
+     * @param width The minimum width, padded with leading zeros
+     * @param start The position in the buffer where to start
+     * @return The position after the last written character
+     */
+    private int appendNumber (final int value, final int width, final int start)
+    {
+        int pos = start;
+        long number = value;
+        int digitWidth = width;
+        if (number < 0)
+        {
+            this.buffer[pos++] = '-';
+            number = -number;
+            digitWidth--;
+        }
+
+        int numDigits = 1;
+        for (long n = number / 10; n > 0; n /= 10)
+            numDigits++;
+        for (int i = numDigits; i < digitWidth; i++)
+            this.buffer[pos++] = '0';
+
+        pos += numDigits;
+        for (int i = pos - 1; i >= pos - numDigits; i--)
+        {
+            this.buffer[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return pos;
+    }
+}
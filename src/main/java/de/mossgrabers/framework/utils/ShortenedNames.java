@@ -0,0 +1,71 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.observer.IIndexedValueObserver;
+
+
+/**
+ * Keeps the shortened forms of the names of a bank. Register it as the name observer of the bank,
+ * it shortens a name only when it changes. The display code then reads the prepared names without
+ * shortening them again on each update.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ShortenedNames implements IIndexedValueObserver<String>
+{
+    private final int []      lengths;
+    private final String []   names;
+    private final String [][] shortenedNames;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of names, e.g. the page size of the bank
+     * @param lengths The lengths to shorten to
+     */
+    public ShortenedNames (final int size, final int... lengths)
+    {
+        this.lengths = lengths.clone ();
+        this.names = new String [size];
+        this.shortenedNames = new String [size][lengths.length];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void update (final int index, final String name)
+    {
+        if (index < 0 || index >= this.names.length)
+            return;
+        for (int i = 0; i < this.lengths.length; i++)
+            this.shortenedNames[index][i] = StringUtils.shortenAndFixASCII (name, this.lengths[i]);
+        this.names[index] = name;
+    }
+
+
+    /**
+     * Get the shortened name. If the name was not prepared for the index and length it is
+     * shortened now.
+     *
+     * @param index The index of the name
+     * @param name The current name at the index
+     * @param length The length to shorten to
+     * @return The shortened name, same as StringUtils.shortenAndFixASCII
+     */
+    public String get (final int index, final String name, final int length)
+    {
+        if (index >= 0 && index < this.names.length && name != null && name.equals (this.names[index]))
+        {
+            for (int i = 0; i < this.lengths.length; i++)
+            {
+                if (this.lengths[i] == length)
+                    return this.shortenedNames[index][i];
+            }
+        }
+        return StringUtils.shortenAndFixASCII (name, length);
+    }
+}
@@ -14,7 +14,99 @@ import java.nio.ByteBuffer;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    private static final PositionFormatter         MEASURES             = new PositionFormatter (new int []
+    {
+        0,
+        0,
+        0
+    }, new char []
+    {
+        '.',
+        '.'
+    });
+    private static final PositionFormatter         MEASURES_FRAMES      = new PositionFormatter (new int []
+    {
+        0,
+        0,
+        0,
+        3
+    }, new char []
+    {
+        '.',
+        '.',
+        ':'
+    });
+    private static final PositionFormatter         MEASURES_LONG        = new PositionFormatter (new int []
+    {
+        3,
+        0,
+        0
+    }, new char []
+    {
+        '.',
+        '.'
+    });
+    private static final PositionFormatter         MEASURES_LONG_FRAMES = new PositionFormatter (new int []
+    {
+        0,
+        0,
+        0,
+        2
+    }, new char []
+    {
+        '.',
+        '.',
+        ':'
+    });
+    private static final PositionFormatter         TIME                 = new PositionFormatter (new int []
+    {
+        0,
+        0,
+        0
+    }, new char []
+    {
+        '.',
+        '.'
+    });
+    private static final PositionFormatter         TIME_FRAMES          = new PositionFormatter (new int []
+    {
+        0,
+        0,
+        0,
+        3
+    }, new char []
+    {
+        '.',
+        '.',
+        ':'
+    });
+    private static final PositionFormatter         TIME_LONG            = new PositionFormatter (new int []
+    {
+        2,
+        2,
+        2
+    }, new char []
+    {
+        '.',
+        '.'
+    });
+    private static final PositionFormatter         TIME_LONG_FRAMES     = new PositionFormatter (new int []
+    {
+        0,
+        2,
+        2,
+        3
+    }, new char []
+    {
+        '.',
+        '.',
+        ':'
+    });
+
+    private static final LruCache<NameKey, String> OPTIMIZED_NAMES      = new LruCache<> (1024);
+    private static final LruCache<String, String>  ASCII_NAMES          = new LruCache<> (256);
+
+    private static final char []                   REMOVABLE_CHARS      =
     {
         ' ',
         'e',
@@ -83,6 +175,35 @@ public class StringUtils
     }
 
 
+    /**
+     * Get the ratio of optimizeName calls which could be answered from the cache.
+     *
+     * @return The hit rate in the range of [0..1]
+     */
+    public static double getOptimizedNameHitRate ()
+    {
+        synchronized (OPTIMIZED_NAMES)
+        {
+            return OPTIMIZED_NAMES.getHitRate ();
+        }
+    }
+
+
+    /**
+     * Get the ratio of fixASCII calls with non-ASCII characters which could be answered from the
+     * cache.
+     *
+     * @return The hit rate in the range of [0..1]
+     */
+    public static double getFixedASCIIHitRate ()
+    {
+        synchronized (ASCII_NAMES)
+        {
+            return ASCII_NAMES.getHitRate ();
+        }
+    }
+
+
     /**
      * Replace umlauts and other non-ASCII characters with alternative writing.
      *
@@ -93,6 +214,28 @@ public class StringUtils
     {
         if (text == null)
             return "";
+
+        // Most texts are pure ASCII and need no replacement
+        int i = 0;
+        while (i < text.length () && text.charAt (i) <= 127)
+            i++;
+        if (i == text.length ())
+            return text;
+
+        synchronized (ASCII_NAMES)
+        {
+            final String cached = ASCII_NAMES.get (text);
+            if (cached != null)
+                return cached;
+            final String fixed = replaceNonASCII (text);
+            ASCII_NAMES.put (text, fixed);
+            return fixed;
+        }
+    }
+
+
+    private static String replaceNonASCII (final String text)
+    {
         final StringBuilder str = new StringBuilder ();
         for (int i = 0; i < text.length (); i++)
         {
@@ -195,7 +338,24 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+
+        final NameKey key = new NameKey (text, length);
+        synchronized (OPTIMIZED_NAMES)
+        {
+            final String cached = OPTIMIZED_NAMES.get (key);
+            if (cached != null)
+                return cached;
+            final String shortened = removeCharacters (text, length);
+            OPTIMIZED_NAMES.put (key, shortened);
+            return shortened;
+        }
+    }
+
 
+    private static String removeCharacters (final String text, final int length)
+    {
         String shortened = text;
         for (final char element: REMOVABLE_CHARS)
         {
@@ -331,7 +491,7 @@ public class StringUtils
      */
     public static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
     {
-        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d");
+        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, MEASURES, MEASURES_FRAMES);
     }
 
 
@@ -347,7 +507,7 @@ public class StringUtils
      */
     public static String formatMeasuresLong (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
     {
-        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%03d.%d.%d", "%d.%d.%d:%02d");
+        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, MEASURES_LONG, MEASURES_LONG_FRAMES);
     }
 
 
@@ -361,12 +521,13 @@ public class StringUtils
      */
     public static String formatTime (final double tempo, final double beats, final boolean includeFrames)
     {
-        return formatTime (tempo, beats, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d");
+        return formatTime (tempo, beats, includeFrames, TIME, TIME_FRAMES);
     }
 
 
     /**
-     * Format the given time as minutes.seconds / minutes.seconds.millis. Padded to 3 / 2 digits.
+     * Format the given time as hours.minutes.seconds / hours.minutes.seconds.millis. Padded to 2 / 3
+     * digits.
      *
      * @param tempo The tempo
      * @param beats The beats to format as time
@@ -375,11 +536,11 @@ public class StringUtils
      */
     public static String formatTimeLong (final double tempo, final double beats, final boolean includeFrames)
     {
-        return formatTime (tempo, beats, includeFrames, "%02d.%02d.%02d", "%d.%02d.%02d:%03d");
+        return formatTime (tempo, beats, includeFrames, TIME_LONG, TIME_LONG_FRAMES);
     }
 
 
-    private static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final String shortFormat, final String longFormat)
+    private static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final PositionFormatter shortFormatter, final PositionFormatter longFormatter)
     {
         final int measure = (int) Math.floor (beats / quartersPerMeasure);
         double t = beats - measure * quartersPerMeasure;
@@ -388,15 +549,15 @@ public class StringUtils
         final int eights = (int) Math.floor (t / 0.25);
 
         if (!includeFrames)
-            return String.format (shortFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset));
+            return shortFormatter.format (measure + startOffset, quarters + startOffset, eights + startOffset);
 
         t = t - eights * 0.25;
         final int frames = (int) Math.floor (t / 0.25 * 100.0);
-        return String.format (longFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset), Integer.valueOf (frames));
+        return longFormatter.format (measure + startOffset, quarters + startOffset, eights + startOffset, frames);
     }
 
 
-    private static String formatTime (final double tempo, final double beats, final boolean includeFrames, final String shortFormat, final String longFormat)
+    private static String formatTime (final double tempo, final double beats, final boolean includeFrames, final PositionFormatter shortFormatter, final PositionFormatter longFormatter)
     {
         final double time = beats * 60.0 / tempo;
 
@@ -407,9 +568,47 @@ public class StringUtils
         final int hours = (int) Math.floor (t);
 
         if (!includeFrames)
-            return String.format (shortFormat, Integer.valueOf (minutes), Integer.valueOf (seconds));
+            return shortFormatter.format (hours, minutes, seconds);
 
         final int millis = (int) ((time - ((hours * 60 + minutes) * 60 + seconds)) * 1000);
-        return String.format (longFormat, Integer.valueOf (hours), Integer.valueOf (minutes), Integer.valueOf (seconds), Integer.valueOf (millis));
+        return longFormatter.format (hours, minutes, seconds, millis);
+    }
+
+
+    /** The key for caching a shortened text. */
+    private static final class NameKey
+    {
+        private final String text;
+        private final int    length;
+        private final int    hash;
+
+
+        NameKey (final String text, final int length)
+        {
+            this.text = text;
+            this.length = length;
+            this.hash = 31 * text.hashCode () + length;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final NameKey other = (NameKey) obj;
+            return this.length == other.length && this.text.equals (other.text);
+        }
     }
 }
@@ -15,9 +15,9 @@ import de.mossgrabers.framework.daw.IHost;
  */
 public class Timeout
 {
-    private final IHost host;
-    private final int   timeoutMillis;
-    private long        updateTime;
+    private final TimerHandle timer;
+    private final int         timeoutMillis;
+    private Runnable          runnable;
 
 
     /**
@@ -28,7 +28,7 @@ public class Timeout
      */
     public Timeout (final IHost host, final int timeoutMillis)
     {
-        this.host = host;
+        this.timer = host.getTimerWheel ().createTimer (this::execute);
         this.timeoutMillis = timeoutMillis;
     }
 
@@ -41,19 +41,15 @@ public class Timeout
      */
     public void delay (final Runnable runnable)
     {
-        final long nowTime = System.currentTimeMillis ();
-        this.updateTime = nowTime;
-        this.delayExecution (runnable, nowTime);
+        this.runnable = runnable;
+        this.timer.schedule (this.timeoutMillis);
     }
 
 
-    private void delayExecution (final Runnable runnable, final long issuedTime)
+    private void execute ()
     {
-        this.host.scheduleTask ( () -> {
-
-            if (issuedTime == this.updateTime)
-                runnable.run ();
-
-        }, this.timeoutMillis);
+        final Runnable r = this.runnable;
+        if (r != null)
+            r.run ();
     }
 }
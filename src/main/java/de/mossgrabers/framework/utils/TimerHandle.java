@@ -0,0 +1,72 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * A re-usable timer of a timer wheel. The handle is created once and can be scheduled and cancelled
+ * as often as necessary without creating new objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TimerHandle
+{
+    final TimerWheel wheel;
+    final Runnable   callback;
+
+    // Links of the intrusive list of the wheel slot the timer is stored in
+    TimerHandle      previous;
+    TimerHandle      next;
+    int              rounds;
+    boolean          isScheduled;
+
+
+    /**
+     * Constructor.
+     *
+     * @param wheel The wheel which executes the timer
+     * @param callback The callback to execute when the timer fires
+     */
+    TimerHandle (final TimerWheel wheel, final Runnable callback)
+    {
+        this.wheel = wheel;
+        this.callback = callback;
+        this.previous = this;
+        this.next = this;
+    }
+
+
+    /**
+     * Schedule the timer. If the timer is already scheduled it is re-armed with the new delay.
+     *
+     * @param delay The delay in milliseconds
+     */
+    public void schedule (final long delay)
+    {
+        this.wheel.schedule (this, delay);
+    }
+
+
+    /**
+     * Cancel the timer. Does nothing if it is not scheduled.
+     */
+    public void cancel ()
+    {
+        this.wheel.cancel (this);
+    }
+
+
+    /**
+     * Check if the timer is scheduled and did not fire yet.
+     *
+     * @return True if scheduled
+     */
+    public boolean isScheduled ()
+    {
+        synchronized (this.wheel)
+        {
+            return this.isScheduled;
+        }
+    }
+}
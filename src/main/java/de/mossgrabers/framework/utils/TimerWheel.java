@@ -0,0 +1,227 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * A hashed timer wheel for short timeouts like long-presses, notifications and retries. All timers
+ * are driven by a single periodic task of the host, which only runs while there are scheduled
+ * timers. Scheduling and cancelling a timer are O(1) and do not create any objects since the timers
+ * are stored in intrusive lists of re-usable handles.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TimerWheel
+{
+    /** The resolution of the wheel in milliseconds. */
+    public static final int      TICK_MILLIS  = 25;
+
+    private static final int     WHEEL_BITS   = 7;
+    private static final int     WHEEL_SIZE   = 1 << WHEEL_BITS;
+    private static final int     WHEEL_MASK   = WHEEL_SIZE - 1;
+
+    private final IHost          host;
+    private final TimerHandle [] slots        = new TimerHandle [WHEEL_SIZE];
+    private final TimerHandle    expired;
+    private final Runnable       tickTask     = this::tick;
+
+    private int                  cursor       = 0;
+    private boolean              isTicking    = false;
+    private long                 lastTickTime;
+
+    private int                  activeTimers = 0;
+    private long                 firedTimers  = 0;
+    private long                 hostTicks    = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host which provides the periodic tick
+     */
+    public TimerWheel (final IHost host)
+    {
+        this.host = host;
+
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.slots[i] = new TimerHandle (this, null);
+        this.expired = new TimerHandle (this, null);
+    }
+
+
+    /**
+     * Create a new timer which is not scheduled yet. Keep the handle and re-use it for each
+     * scheduling of the same callback.
+     *
+     * @param callback The callback to execute when the timer fires
+     * @return The timer handle
+     */
+    public TimerHandle createTimer (final Runnable callback)
+    {
+        return new TimerHandle (this, callback);
+    }
+
+
+    /**
+     * Schedule a timer. If the timer is already scheduled it is re-armed with the new delay.
+     *
+     * @param timer The timer to schedule
+     * @param delay The delay in milliseconds, the timer fires on the next tick if 0
+     */
+    public synchronized void schedule (final TimerHandle timer, final long delay)
+    {
+        if (timer.isScheduled)
+            unlink (timer);
+        else
+            this.activeTimers++;
+
+        final long ticks = Math.max (1, (delay + TICK_MILLIS - 1) / TICK_MILLIS);
+        timer.rounds = (int) Math.min (Integer.MAX_VALUE, (ticks - 1) >> WHEEL_BITS);
+        timer.isScheduled = true;
+        link (this.slots[(int) (this.cursor + ticks & WHEEL_MASK)], timer);
+
+        if (!this.isTicking)
+        {
+            this.isTicking = true;
+            this.lastTickTime = System.currentTimeMillis ();
+            this.host.scheduleTask (this.tickTask, TICK_MILLIS);
+        }
+    }
+
+
+    /**
+     * Cancel a timer. Does nothing if the timer is not scheduled.
+     *
+     * @param timer The timer to cancel
+     */
+    public synchronized void cancel (final TimerHandle timer)
+    {
+        if (!timer.isScheduled)
+            return;
+        unlink (timer);
+        timer.isScheduled = false;
+        this.activeTimers--;
+    }
+
+
+    /**
+     * Get the number of scheduled timers which did not fire yet.
+     *
+     * @return The number of timers
+     */
+    public synchronized int getActiveTimers ()
+    {
+        return this.activeTimers;
+    }
+
+
+    /**
+     * Get the number of timers which fired since the wheel was created.
+     *
+     * @return The number of timers
+     */
+    public synchronized long getFiredTimers ()
+    {
+        return this.firedTimers;
+    }
+
+
+    /**
+     * Get the number of tasks which were scheduled at the host to drive the wheel.
+     *
+     * @return The number of host tasks
+     */
+    public synchronized long getHostTicks ()
+    {
+        return this.hostTicks;
+    }
+
+
+    /**
+     * Advance the wheel by the number of ticks which elapsed since the last call and execute all
+     * expired timers. The callbacks are executed without holding the lock of the wheel, therefore
+     * they can re-arm their timers.
+     */
+    private void tick ()
+    {
+        synchronized (this)
+        {
+            this.hostTicks++;
+
+            // The host might call late, catch up with the missed ticks
+            final long now = System.currentTimeMillis ();
+            final long steps = Math.min (WHEEL_SIZE, Math.max (1, (now - this.lastTickTime) / TICK_MILLIS));
+            this.lastTickTime = Math.max (this.lastTickTime + steps * TICK_MILLIS, now - TICK_MILLIS);
+
+            for (int i = 0; i < steps; i++)
+            {
+                this.cursor = this.cursor + 1 & WHEEL_MASK;
+                final TimerHandle head = this.slots[this.cursor];
+                TimerHandle timer = head.next;
+                while (timer != head)
+                {
+                    final TimerHandle next = timer.next;
+                    if (timer.rounds > 0)
+                        timer.rounds--;
+                    else
+                    {
+                        unlink (timer);
+                        link (this.expired, timer);
+                    }
+                    timer = next;
+                }
+            }
+        }
+
+        while (true)
+        {
+            final TimerHandle timer;
+            synchronized (this)
+            {
+                timer = this.expired.next;
+                if (timer == this.expired)
+                {
+                    this.isTicking = this.activeTimers > 0;
+                    if (this.isTicking)
+                        this.host.scheduleTask (this.tickTask, TICK_MILLIS);
+                    return;
+                }
+                unlink (timer);
+                timer.isScheduled = false;
+                this.activeTimers--;
+                this.firedTimers++;
+            }
+
+            try
+            {
+                timer.callback.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute timer.", ex);
+            }
+        }
+    }
+
+
+    private static void link (final TimerHandle head, final TimerHandle timer)
+    {
+        timer.previous = head.previous;
+        timer.next = head;
+        head.previous.next = timer;
+        head.previous = timer;
+    }
+
+
+    private static void unlink (final TimerHandle timer)
+    {
+        timer.previous.next = timer.next;
+        timer.next.previous = timer.previous;
+        timer.previous = timer;
+        timer.next = timer;
+    }
+}
@@ -178,13 +178,14 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
         final int hiStep = this.isInXRange (step) ? step % this.clipCols : -1;
         final int offsetY = this.scales.getDrumOffset ();
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
+        final int [] states = this.getStepStates (clip, editMidiChannel, 0, this.clipCols, offsetY, this.lanes);
         for (int sound = 0; sound < this.lanes; sound++)
         {
             final int noteRow = offsetY + sound;
             final Optional<ColorEx> drumPadColor = this.getDrumPadColor (this.primary, sound);
             for (int col = 0; col < this.clipCols; col++)
             {
-                final int isSet = clip.getStep (editMidiChannel, col, noteRow).getState ();
+                final int isSet = states[sound * this.clipCols + col];
                 final boolean hilite = col == hiStep;
                 final int x = col % this.numColumns;
                 int y = this.lanes - 1 - sound;
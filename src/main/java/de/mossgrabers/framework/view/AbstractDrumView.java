@@ -455,7 +455,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
 
     protected String getPadContentColor (final IChannel drumPad)
     {
-        return this.useDawColors ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.useDawColors ? drumPad.getColorIndex () : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
     }
 
 
@@ -769,9 +769,10 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
         final IPadGrid padGrid = this.surface.getPadGrid ();
+        final int [] states = this.getStepStates (clip, editMidiChannel, 0, this.sequencerSteps, noteRow, 1);
         for (int col = 0; col < this.sequencerSteps; col++)
         {
-            final int isSet = clip.getStep (editMidiChannel, col, noteRow).getState ();
+            final int isSet = states[col];
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             int y = col / this.numColumns;
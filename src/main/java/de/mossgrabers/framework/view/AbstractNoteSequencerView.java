@@ -263,13 +263,28 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int step = clip.getCurrentStep ();
         final int hiStep = this.isInXRange (step) ? step % this.numDisplayCols : -1;
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
+
+        // Query the states of all displayed notes at once
+        int lowestNote = 128;
+        int highestNote = -1;
+        for (int y = 0; y < this.numSequencerRows; y++)
+        {
+            final int map = this.keyManager.map (y);
+            if (map >= 0)
+            {
+                lowestNote = Math.min (lowestNote, map);
+                highestNote = Math.max (highestNote, map);
+            }
+        }
+        final int [] states = this.getStepStates (clip, editMidiChannel, 0, this.numDisplayCols, lowestNote, Math.max (0, highestNote - lowestNote + 1));
+
         for (int x = 0; x < this.numDisplayCols; x++)
         {
             for (int y = 0; y < this.numSequencerRows; y++)
             {
                 // 0: not set, 1: note continues playing, 2: start of note
                 final int map = this.keyManager.map (y);
-                final int isSet = map < 0 ? 0 : clip.getStep (editMidiChannel, x, map).getState ();
+                final int isSet = map < 0 ? 0 : states[(map - lowestNote) * this.numDisplayCols + x];
                 gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, cursorTrack));
             }
         }
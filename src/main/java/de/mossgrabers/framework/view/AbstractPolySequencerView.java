@@ -331,9 +331,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
 
         // Paint the sequencer steps
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
+        final int [] states = this.getStepStates (clip, this.configuration.getMidiEditChannel (), 0, this.sequencerSteps, 0, 128);
         for (int col = 0; col < this.sequencerSteps; col++)
         {
-            final int isSet = this.getStep (clip, col);
+            final int isSet = getCombinedState (states, this.sequencerSteps, col);
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             final int y = col / this.numColumns;
@@ -354,7 +355,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     @Override
     public void updateNoteMapping ()
     {
-        final int [] matrix = this.scales.getNoteMatrix ();
+        final int [] matrix = this.scales.getNoteMatrix ().clone ();
         for (int i = this.scales.getStartNote () + this.sequencerSteps; i < this.scales.getEndNote (); i++)
             matrix[i] = -1;
         this.delayedUpdateNoteMapping (matrix);
@@ -370,12 +371,27 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      *         at this step, see the defined constants
      */
     protected int getStep (final INoteClip clip, final int col)
+    {
+        final int [] states = this.getStepStates (clip, this.configuration.getMidiEditChannel (), col, 1, 0, 128);
+        return getCombinedState (states, 1, 0);
+    }
+
+
+    /**
+     * Combine the states of all 128 notes of a step.
+     *
+     * @param states The states of the notes of several steps, see getStepStates
+     * @param numSteps The number of steps contained in the states
+     * @param col The index of the step in the states
+     * @return 0: All notes are off, 1: at least 1 note continues playing, 2: at least 1 note starts
+     *         at this step, see the defined constants
+     */
+    private static int getCombinedState (final int [] states, final int numSteps, final int col)
     {
         int result = IStepInfo.NOTE_OFF;
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
         for (int row = 0; row < 128; row++)
         {
-            final int r = clip.getStep (editMidiChannel, col, row).getState ();
+            final int r = states[row * numSteps + col];
             if (r == IStepInfo.NOTE_START)
                 return r;
             if (r == IStepInfo.NOTE_CONTINUE)
@@ -245,18 +245,17 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         if (row < 0)
             return -1;
         int step;
-        final INoteClip clip = this.getClip ();
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
+        final int [] states = this.getRowStates (row, length);
         for (step = 0; step < length; step++)
         {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
+            if (states[step] > 0)
                 break;
         }
         if (step >= length)
             return -1;
         for (int step2 = step + 1; step2 < length; step2++)
         {
-            if (clip.getStep (editMidiChannel, step2, row).getState () > 0)
+            if (states[step2] > 0)
                 return step2 - step;
         }
         return -1;
@@ -271,11 +270,10 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
             return -1;
         int step = start;
         int counter = 0;
-        final INoteClip clip = this.getClip ();
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
+        final int [] states = this.getRowStates (row, length);
         do
         {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
+            if (states[step] > 0)
                 return counter;
             step++;
             counter++;
@@ -295,11 +293,10 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         final int s = start == 0 ? length - 1 : start - 1;
         int step = s;
         int counter = 0;
-        final INoteClip clip = this.getClip ();
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
+        final int [] states = this.getRowStates (row, length);
         do
         {
-            if (clip.getStep (editMidiChannel, step, row).getState () > 0)
+            if (states[step] > 0)
                 return counter;
             step--;
             counter++;
@@ -310,6 +307,12 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     }
 
 
+    private int [] getRowStates (final int row, final int length)
+    {
+        return this.getStepStates (this.getClip (), this.configuration.getMidiEditChannel (), 0, length, row, 1);
+    }
+
+
     protected void updateScale ()
     {
         this.delayedUpdateNoteMapping (this.model.canSelectedTrackHoldNotes () ? this.scales.getSequencerMatrix (AbstractRaindropsView.NUM_DISPLAY_COLS, this.offsetY) : EMPTY_TABLE);
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.constants.Resolution;
@@ -62,6 +63,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     protected final int           clipCols;
 
     private boolean               isSequencerActive;
+    private int []                stepStates                   = new int [0];
 
 
     /**
@@ -223,6 +225,26 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     }
 
 
+    /**
+     * Check if another pad than the given one is pressed, e.g. to edit several notes at the same
+     * time.
+     *
+     * @param index The index of the pad to ignore
+     * @return True if another pad is pressed
+     */
+    protected boolean isOtherPadPressed (final int index)
+    {
+        final IPadGrid padGrid = this.surface.getPadGrid ();
+        final int numPads = padGrid.getRows () * padGrid.getCols ();
+        for (int i = 0; i < numPads; i++)
+        {
+            if (i != index && this.surface.isPressed (ButtonID.get (ButtonID.PAD1, i)))
+                return true;
+        }
+        return false;
+    }
+
+
     /**
      * Checks if the given number is in the current display.
      *
@@ -238,6 +260,29 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     }
 
 
+    /**
+     * Get the states of all notes in a rectangular area of the clip with one call. The state of the
+     * note at step s and row r is at index (r - firstRow) * numSteps + (s - firstStep). The
+     * returned array is re-used by the next call.
+     *
+     * @param clip The clip
+     * @param channel The MIDI channel
+     * @param firstStep The first step of the area
+     * @param numSteps The number of steps of the area
+     * @param firstRow The first row of the area
+     * @param numRows The number of rows of the area
+     * @return The states of the notes (0: not set, 1: note continues playing, 2: start of note)
+     */
+    protected int [] getStepStates (final INoteClip clip, final int channel, final int firstStep, final int numSteps, final int firstRow, final int numRows)
+    {
+        final int size = numSteps * numRows;
+        if (this.stepStates.length < size)
+            this.stepStates = new int [size];
+        clip.getStepStates (channel, firstStep, numSteps, firstRow, numRows, this.stepStates);
+        return this.stepStates;
+    }
+
+
     /**
      * Calculates the length of one sequencer page which is the number of displayed steps multiplied
      * with the current grid resolution.